@@ -0,0 +1,93 @@
+package ru.practicum.shareit.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.utils.ErrorResponse;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.of(request);
+        String userId = request.getHeader(HEADER_WITH_USER_ID_NAME);
+        String clientId = userId == null ? request.getRemoteAddr() : userId;
+        if (!rateLimiter.tryAcquire(clientId, group)) {
+            log.warn("Превышен лимит запросов группы {} для клиента {}", group, clientId);
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Превышен лимит запросов, повторите попытку позже");
+            return;
+        }
+        if (!loadShedder.tryAcquire()) {
+            log.warn("Запрос {} {} отклонен из-за перегрузки, среднее время ответа: {} мс", request.getMethod(),
+                    request.getRequestURI(), loadShedder.getAverageLatencyMillis());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Сервис перегружен, повторите попытку позже");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                loadShedder.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message));
+    }
+
+    @RequiredArgsConstructor
+    private class ReleasingListener implements AsyncListener {
+        private final long start;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            loadShedder.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.admission")
+public class AdmissionProperties {
+    private BucketLimit search = new BucketLimit(20, 10);
+    private BucketLimit bookings = new BucketLimit(40, 20);
+    private BucketLimit writes = new BucketLimit(20, 10);
+    private BucketLimit reads = new BucketLimit(100, 50);
+    private long maxBuckets = 100000;
+    private Duration bucketIdleTimeout = Duration.ofMinutes(10);
+    private int maxConcurrentRequests = 400;
+    private int degradedConcurrentRequests = 50;
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+
+    public BucketLimit getLimit(EndpointGroup group) {
+        switch (group) {
+            case SEARCH:
+                return search;
+            case BOOKINGS:
+                return bookings;
+            case WRITES:
+                return writes;
+            default:
+                return reads;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketLimit {
+        private long capacity;
+        private long refillPerSecond;
+    }
+}
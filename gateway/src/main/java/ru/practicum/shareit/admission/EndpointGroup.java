@@ -0,0 +1,26 @@
+package ru.practicum.shareit.admission;
+
+import org.springframework.http.HttpMethod;
+
+import javax.servlet.http.HttpServletRequest;
+
+public enum EndpointGroup {
+    SEARCH,
+    BOOKINGS,
+    WRITES,
+    READS;
+
+    public static EndpointGroup of(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return WRITES;
+        }
+        String path = request.getRequestURI();
+        if (path.startsWith("/items/search")) {
+            return SEARCH;
+        }
+        if (path.startsWith("/bookings")) {
+            return BOOKINGS;
+        }
+        return READS;
+    }
+}
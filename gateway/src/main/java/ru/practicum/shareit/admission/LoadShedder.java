@@ -0,0 +1,43 @@
+package ru.practicum.shareit.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadShedder {
+    private static final double LATENCY_WEIGHT = 0.1;
+    private final AdmissionProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+
+    public LoadShedder(AdmissionProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean tryAcquire() {
+        int limit = isDegraded() ? properties.getDegradedConcurrentRequests() : properties.getMaxConcurrentRequests();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        averageLatencyNanos.accumulateAndGet(latencyNanos,
+                (average, latency) -> average == 0 ? latency : (long) (average + LATENCY_WEIGHT * (latency - average)));
+    }
+
+    public boolean isDegraded() {
+        return averageLatencyNanos.get() > properties.getLatencyThreshold().toNanos();
+    }
+
+    public long getAverageLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(averageLatencyNanos.get());
+    }
+}
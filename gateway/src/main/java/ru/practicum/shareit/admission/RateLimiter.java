@@ -0,0 +1,74 @@
+package ru.practicum.shareit.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+public class RateLimiter {
+    private final AdmissionProperties properties;
+    private final LongSupplier nanoClock;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimiter(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(AdmissionProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getBucketIdleTimeout())
+                .build();
+    }
+
+    public boolean tryAcquire(String userId, EndpointGroup group) {
+        AdmissionProperties.BucketLimit limit = properties.getLimit(group);
+        TokenBucket bucket = buckets.get(new BucketKey(userId, group),
+                key -> new TokenBucket(limit.getCapacity(), nanoClock.getAsLong()));
+        return bucket.tryAcquire(limit, nanoClock.getAsLong());
+    }
+
+    @Value
+    private static class BucketKey {
+        String userId;
+        EndpointGroup group;
+    }
+
+    private static class TokenBucket {
+        private final AtomicReference<State> state;
+
+        private TokenBucket(long capacity, long now) {
+            state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        private boolean tryAcquire(AdmissionProperties.BucketLimit limit, long now) {
+            while (true) {
+                State current = state.get();
+                double elapsedSeconds = (double) Math.max(0, now - current.refilledAt) / TimeUnit.SECONDS.toNanos(1);
+                double tokens = Math.min(limit.getCapacity(),
+                        current.tokens + elapsedSeconds * limit.getRefillPerSecond());
+                if (tokens < 1) {
+                    return false;
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.refilledAt)))) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static class State {
+        private final double tokens;
+        private final long refilledAt;
+
+        private State(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -1,16 +1,16 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.BaseClient;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ServerTransportFactory;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,40 +18,67 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(builder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+    public BookingClient(ServerTransportFactory transportFactory, RequestCoalescer requestCoalescer) {
+        super(transportFactory.create(API_PREFIX), API_PREFIX, requestCoalescer, null);
     }
 
-    public ResponseEntity<Object> createBooking(BookingCreationDto bookingDto, long userId) {
+    public Mono<ResponseEntity<Object>> createBooking(BookingCreationDto bookingDto, long userId) {
         return post("", userId, bookingDto);
     }
 
-    public ResponseEntity<Object> setBookingStatus(long userId, long bookingId, boolean approved) {
+    public Mono<ResponseEntity<Object>> setBookingStatus(long userId, long bookingId, boolean approved) {
         return patch("/" + bookingId + "?approved=" + approved, userId);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, long bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(long userId, long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsByBookerId(long userId, SearchingState state, int from, int size) {
+    public Mono<ResponseEntity<Object>> getBookings(long userId, List<Long> bookingIds) {
+        return post("/batch", userId, bookingIds);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsByBookerId(long userId, SearchingState state, int from, int size,
+                                                              boolean compact) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
-                "size", size
+                "size", size,
+                "compact", compact
+        );
+        return get("?state={state}&from={from}&size={size}&compact={compact}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsByBookerId(
+            long userId, SearchingState state, String after, int size, boolean compact) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "after", after,
+                "size", size,
+                "compact", compact
         );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        return get("?state={state}&after={after}&size={size}&compact={compact}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsByOwnerId(long userId, SearchingState state, int from, int size) {
+    public Mono<ResponseEntity<Object>> getBookingsByOwnerId(long userId, SearchingState state, int from, int size,
+                                                             boolean compact) {
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
-                "size", size
+                "size", size,
+                "compact", compact
+        );
+        return get("/owner?state={state}&from={from}&size={size}&compact={compact}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsByOwnerId(
+            long userId, SearchingState state, String after, int size, boolean compact) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "after", after,
+                "size", size,
+                "compact", compact
         );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        return get("/owner?state={state}&after={after}&size={size}&compact={compact}", userId, parameters);
     }
 }
@@ -5,12 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.utils.Validator;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 import static ru.practicum.shareit.utils.Constants.*;
 
@@ -25,44 +30,71 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@Valid @RequestBody BookingCreationDto bookingDto,
-                                                @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
+    public Mono<ResponseEntity<Object>> createBooking(@Valid @RequestBody BookingCreationDto bookingDto,
+                                                      @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
         log.info("Попытка забронировать вещь с id = {} пользователем с id = {}", bookingDto.getItemId(), userId);
         Validator.checkTimeCorrectness(bookingDto.getStart(), bookingDto.getEnd());
         return bookingClient.createBooking(bookingDto, userId);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> setBookingStatus(@PathVariable @Positive long bookingId, @RequestParam boolean approved,
-                                                   @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
+    public Mono<ResponseEntity<Object>> setBookingStatus(
+            @PathVariable @Positive long bookingId, @RequestParam boolean approved,
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
         log.info("Попытка изменить статус бронирования с id = {} пользователем с id = {}", bookingId, userId);
         return bookingClient.setBookingStatus(userId, bookingId, approved);
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@PathVariable @Positive long bookingId,
-                                             @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
+    public Mono<ResponseEntity<Object>> getBooking(@PathVariable @Positive long bookingId,
+                                                   @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
         log.info("Попытка получить бронирование по id = {} пользователем с id = {}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> getBookings(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull @Positive Long> bookingIds) {
+        log.info("Попытка получить {} бронирований по списку id пользователем с id = {}", bookingIds.size(), userId);
+        return bookingClient.getBookings(userId, bookingIds);
+    }
+
     @GetMapping
-    public ResponseEntity<Object> getBookingsByBookerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                        @RequestParam(defaultValue = DEFAULT_SEARCH_VALUE) String state,
-                                                        @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
-                                                        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
+    public Mono<ResponseEntity<Object>> getBookingsByBookerId(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestParam(defaultValue = DEFAULT_SEARCH_VALUE) String state,
+            @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        if (after != null) {
+            log.info("Попытка получить {} бронирований после {} со статусом {} автора бронирований с id = {}", size,
+                    after, state, userId);
+            return bookingClient.getBookingsByBookerId(userId, Validator.getSearchingState(state), after, size,
+                    compact);
+        }
         log.info("Попытка получить {} бронирований начиная с {} со статусом {} автора бронирований с id = {}", size,
                 from, state, userId);
-        return bookingClient.getBookingsByBookerId(userId, Validator.getSearchingState(state), from, size);
+        return bookingClient.getBookingsByBookerId(userId, Validator.getSearchingState(state), from, size, compact);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getBookingsByOwnerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                       @RequestParam(defaultValue = DEFAULT_SEARCH_VALUE) String state,
-                                                       @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
-                                                       @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
+    public Mono<ResponseEntity<Object>> getBookingsByOwnerId(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestParam(defaultValue = DEFAULT_SEARCH_VALUE) String state,
+            @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        if (after != null) {
+            log.info("Попытка получить {} бронирований после {} со статусом {} владельца вещей с id = {}", size,
+                    after, state, userId);
+            return bookingClient.getBookingsByOwnerId(userId, Validator.getSearchingState(state), after, size,
+                    compact);
+        }
         log.info("Попытка получить {} бронирований начиная с {} со статусом {} владельца вещей с id = {}", size, from,
                 state, userId);
-        return bookingClient.getBookingsByOwnerId(userId, Validator.getSearchingState(state), from, size);
+        return bookingClient.getBookingsByOwnerId(userId, Validator.getSearchingState(state), from, size, compact);
     }
 }
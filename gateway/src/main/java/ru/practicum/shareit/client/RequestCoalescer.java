@@ -0,0 +1,46 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class RequestCoalescer {
+    private static final String METRIC_NAME = "shareit-server.requests";
+    private final Map<String, Mono<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter sentRequests;
+    private final Counter mergedRequests;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        sentRequests = meterRegistry.counter(METRIC_NAME, "outcome", "sent");
+        mergedRequests = meterRegistry.counter(METRIC_NAME, "outcome", "merged");
+    }
+
+    public Mono<ResponseEntity<Object>> coalesce(String key, Supplier<Mono<ResponseEntity<Object>>> request) {
+        return Mono.defer(() -> {
+            boolean[] leader = new boolean[1];
+            Mono<ResponseEntity<Object>> shared = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                AtomicReference<Mono<ResponseEntity<Object>>> self = new AtomicReference<>();
+                Mono<ResponseEntity<Object>> created = Mono.defer(request)
+                        .doFinally(signal -> inFlight.remove(k, self.get()))
+                        .share();
+                self.set(created);
+                return created;
+            });
+            if (leader[0]) {
+                sentRequests.increment();
+            } else {
+                mergedRequests.increment();
+            }
+            return shared;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.resilience")
+public class ResilienceProperties {
+    private int defaultMaxConcurrentCalls = 50;
+    private Map<String, Integer> maxConcurrentCalls = new HashMap<>(Map.of(
+            "bookings", 60,
+            "items", 50,
+            "search", 20,
+            "requests", 30,
+            "users", 30
+    ));
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    public int getMaxConcurrentCalls(String group) {
+        return maxConcurrentCalls.getOrDefault(group, defaultMaxConcurrentCalls);
+    }
+}
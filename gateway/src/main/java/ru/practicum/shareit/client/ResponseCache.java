@@ -0,0 +1,86 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+    private static final String CACHE_NAME = "shareit-server-responses";
+    private static final char USER_SEPARATOR = '#';
+    private final Cache<String, Entry> cache;
+    private final long freshForNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.freshForNanos = properties.getFreshFor().toNanos();
+        this.nanoClock = nanoClock;
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public static String key(String path, Long userId) {
+        return path + USER_SEPARATOR + userId;
+    }
+
+    public Mono<ResponseEntity<Object>> get(String key,
+                                            Function<HttpHeaders, Mono<ResponseEntity<Object>>> request) {
+        Entry cached = cache.getIfPresent(key);
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            if (nanoClock.getAsLong() - cached.getValidatedAt() < freshForNanos) {
+                return Mono.just(cached.getResponse());
+            }
+            headers.setIfNoneMatch(cached.getResponse().getHeaders().getETag());
+        }
+
+        return request.apply(headers)
+                .map(response -> {
+                    if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                        cache.put(key, new Entry(cached.getResponse(), nanoClock.getAsLong()));
+                        return cached.getResponse();
+                    }
+                    if (response.getStatusCode() == HttpStatus.OK && response.getHeaders().getETag() != null) {
+                        cache.put(key, new Entry(response, nanoClock.getAsLong()));
+                    } else {
+                        cache.invalidate(key);
+                    }
+                    return response;
+                });
+    }
+
+    public void invalidate(String path) {
+        cache.asMap().keySet().removeIf(key -> {
+            String cachedPath = key.substring(0, key.lastIndexOf(USER_SEPARATOR));
+            return path.equals(cachedPath) || path.startsWith(cachedPath + "/");
+        });
+    }
+
+    @Value
+    private static class Entry {
+        ResponseEntity<Object> response;
+        long validatedAt;
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+@Component
+@ConditionalOnProperty(name = "shareit-server.client", havingValue = "rest-template", matchIfMissing = true)
+public class RestTemplateTransportFactory implements ServerTransportFactory {
+    private final String serverUrl;
+    private final RestTemplateBuilder builder;
+    private final ClientHttpRequestFactory requestFactory;
+    private final ServerGuard serverGuard;
+
+    public RestTemplateTransportFactory(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                                        ClientHttpRequestFactory requestFactory, ServerGuard serverGuard) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.requestFactory = requestFactory;
+        this.serverGuard = serverGuard;
+    }
+
+    @Override
+    public ServerTransport create(String apiPrefix) {
+        return serverGuard.protect(apiPrefix, new RestTemplateTransport(builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + apiPrefix))
+                .requestFactory(() -> requestFactory)
+                .build()));
+    }
+}
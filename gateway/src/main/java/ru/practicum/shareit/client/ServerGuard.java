@@ -0,0 +1,111 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import ru.practicum.shareit.utils.ErrorResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ServerGuard {
+    private static final String SEARCH_PATH = "/search";
+    private final ResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public ServerGuard(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ServerTransport protect(String apiPrefix, ServerTransport transport) {
+        return (method, path, userId, parameters, body, headers) -> call(groupOf(apiPrefix, path),
+                () -> transport.exchange(method, path, userId, parameters, body, headers));
+    }
+
+    Mono<ResponseEntity<Object>> call(String group, Supplier<Mono<ResponseEntity<Object>>> request) {
+        Compartment compartment = compartments.computeIfAbsent(group, Compartment::new);
+        return Mono.defer(() -> {
+            if (!compartment.bulkhead.tryAcquire()) {
+                compartment.rejectedByBulkhead.increment();
+                log.warn("Превышен лимит одновременных запросов к серверу для группы {}", group);
+                return Mono.just(unavailable("Сервер перегружен запросами, повторите попытку позже"));
+            }
+            if (!compartment.circuitBreaker.tryAcquire()) {
+                compartment.bulkhead.release();
+                compartment.rejectedByCircuit.increment();
+                return Mono.just(unavailable("Сервер временно недоступен, повторите попытку позже"));
+            }
+            return request.get()
+                    .doOnNext(response -> {
+                        if (response.getStatusCode().is5xxServerError()) {
+                            compartment.onFailure();
+                        } else {
+                            compartment.circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnError(e -> compartment.onFailure())
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            compartment.circuitBreaker.onCancel();
+                        }
+                        compartment.bulkhead.release();
+                    });
+        });
+    }
+
+    private static String groupOf(String apiPrefix, String path) {
+        if (path.startsWith(SEARCH_PATH)) {
+            return SEARCH_PATH.substring(1);
+        }
+        return apiPrefix.substring(1);
+    }
+
+    private static ResponseEntity<Object> unavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse(message));
+    }
+
+    private class Compartment {
+        private final String group;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker circuitBreaker;
+        private final Counter rejectedByBulkhead;
+        private final Counter rejectedByCircuit;
+
+        private Compartment(String group) {
+            this.group = group;
+            this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls(group));
+            this.circuitBreaker = new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration());
+            this.rejectedByBulkhead = meterRegistry.counter("shareit-server.rejected", "group", group,
+                    "reason", "bulkhead");
+            this.rejectedByCircuit = meterRegistry.counter("shareit-server.rejected", "group", group,
+                    "reason", "circuit-open");
+            Gauge.builder("shareit-server.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .tag("group", group)
+                    .register(meterRegistry);
+            Gauge.builder("shareit-server.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .tag("group", group)
+                    .register(meterRegistry);
+        }
+
+        private void onFailure() {
+            circuitBreaker.onFailure();
+            if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                log.warn("Цепь запросов к серверу для группы {} разомкнута", group);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Component
+@EnableConfigurationProperties(HttpClientProperties.class)
+@ConditionalOnProperty(name = "shareit-server.client", havingValue = "web-client")
+public class WebClientTransportFactory implements ServerTransportFactory, DisposableBean {
+    private static final String POOL_NAME = "shareit-server";
+    private final String serverUrl;
+    private final WebClient.Builder builder;
+    private final ConnectionProvider connectionProvider;
+    private final ReactorClientHttpConnector connector;
+    private final ServerGuard serverGuard;
+
+    public WebClientTransportFactory(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                     HttpClientProperties properties, ServerGuard serverGuard) {
+        this.serverUrl = serverUrl;
+        this.builder = builder;
+        this.serverGuard = serverGuard;
+
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireMaxCount(properties.getMaxPendingAcquires())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleTimeout())
+                .evictInBackground(properties.getIdleTimeout())
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout())
+                .compress(true);
+        this.connector = new ReactorClientHttpConnector(httpClient);
+    }
+
+    @Override
+    public ServerTransport create(String apiPrefix) {
+        return serverGuard.protect(apiPrefix, new WebClientTransport(builder.clone()
+                .baseUrl(serverUrl + apiPrefix)
+                .clientConnector(connector)
+                .build()));
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+}
@@ -5,12 +5,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.util.List;
 
 import static ru.practicum.shareit.utils.Constants.*;
 
@@ -24,47 +29,61 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                             @Valid @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> createItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+                                                   @Valid @RequestBody ItemDto itemDto) {
         log.info("Попытка создать вещь пользователем с id = {}", userId);
         return itemClient.createItem(userId, itemDto);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                             @RequestBody ItemDto itemDto, @PathVariable @Positive long itemId) {
+    public Mono<ResponseEntity<Object>> updateItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+                                                   @RequestBody ItemDto itemDto, @PathVariable @Positive long itemId) {
         log.info("Попытка обновить вещь с id = {} пользователем с id = {}", itemId, userId);
         return itemClient.updateItem(userId, itemDto, itemId);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                          @PathVariable @Positive long itemId) {
+    public Mono<ResponseEntity<Object>> getItem(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+                                                @PathVariable @Positive long itemId) {
         log.info("Попытка получить вещь с id = {} пользователем с id = {}", itemId, userId);
         return itemClient.getItem(itemId, userId);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> getItems(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull @Positive Long> itemIds) {
+        log.info("Попытка получить {} вещей по списку id пользователем с id = {}", itemIds.size(), userId);
+        return itemClient.getItems(userId, itemIds);
+    }
+
     @GetMapping
-    public ResponseEntity<Object> getUsersItems(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
-                                                @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
+    public Mono<ResponseEntity<Object>> getUsersItems(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size,
+            @RequestParam(required = false) String after) {
+        if (after != null) {
+            log.info("Попытка получить {} вещей пользователя с id = {} после {}", size, userId, after);
+            return itemClient.getUsersItems(userId, after, size);
+        }
         log.info("Попытка получить {} вещей пользователя с id = {} начиная с {} вещи", size, userId, from);
         return itemClient.getUsersItems(userId, from, size);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                              @RequestParam String text,
-                                              @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
-                                              @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
+    public Mono<ResponseEntity<Object>> searchItems(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId, @RequestParam String text,
+            @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
         log.info("Попытка найти {} вещей начиная с {} по поисковой строке: {}", size, from, text);
-        return itemClient.searchItems(userId, text, from, size);
+        return itemClient.searchItems(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> createComment(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                @PathVariable @Positive long itemId,
-                                                @Valid @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> createComment(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+                                                      @PathVariable @Positive long itemId,
+                                                      @Valid @RequestBody CommentDto commentDto) {
         log.info("Попытка оставить отзыв на вещь с id = {} пользователем с id = {}", itemId, userId);
         return itemClient.createComment(commentDto, userId, itemId);
     }
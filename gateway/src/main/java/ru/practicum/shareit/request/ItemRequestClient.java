@@ -1,13 +1,13 @@
 package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.request.dto.CreateItemRequestDto;
 
 import java.util.Map;
@@ -17,26 +17,24 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(builder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                .build());
+    public ItemRequestClient(ServerTransportFactory transportFactory, RequestCoalescer requestCoalescer,
+                             ResponseCache responseCache) {
+        super(transportFactory.create(API_PREFIX), API_PREFIX, requestCoalescer, responseCache);
     }
 
-    public ResponseEntity<Object> createItemRequest(long userId, CreateItemRequestDto createItemRequestDto) {
+    public Mono<ResponseEntity<Object>> createItemRequest(long userId, CreateItemRequestDto createItemRequestDto) {
         return post("", userId, createItemRequestDto);
     }
 
-    public ResponseEntity<Object> getUsersRequest(long userId) {
+    public Mono<ResponseEntity<Object>> getUsersRequest(long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getRequestById(long userId, long requestId) {
-        return get("/" + requestId, userId);
+    public Mono<ResponseEntity<Object>> getRequestById(long userId, long requestId) {
+        return getCached("/" + requestId, userId);
     }
 
-    public ResponseEntity<Object> getRequests(long userId, int from, int size) {
+    public Mono<ResponseEntity<Object>> getRequests(long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -44,4 +42,12 @@ public class ItemRequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
+    public Mono<ResponseEntity<Object>> getRequests(long userId, String after, int size) {
+        Map<String, Object> parameters = Map.of(
+                "after", after,
+                "size", size
+        );
+        return get("/all?after={after}&size={size}", userId, parameters);
+    }
+
 }
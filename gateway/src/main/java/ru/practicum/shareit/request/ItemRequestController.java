@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.CreateItemRequestDto;
 
 import javax.validation.Valid;
@@ -22,29 +23,37 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItemRequest(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                    @Valid @RequestBody CreateItemRequestDto createItemRequestDto) {
+    public Mono<ResponseEntity<Object>> createItemRequest(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @Valid @RequestBody CreateItemRequestDto createItemRequestDto) {
         log.info("Попытка создать запрос пользователем с id = {}", userId);
         return itemRequestClient.createItemRequest(userId, createItemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUsersRequests(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
+    public Mono<ResponseEntity<Object>> getUsersRequests(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId) {
         log.warn("Попытка получить все бронирования пользователя с id = {}", userId);
         return itemRequestClient.getUsersRequest(userId);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequestById(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                 @PathVariable @Positive long requestId) {
+    public Mono<ResponseEntity<Object>> getRequestById(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+                                                       @PathVariable @Positive long requestId) {
         log.info("Попытка получить бронирование с id = {} пользователем с id = {}", requestId, userId);
         return itemRequestClient.getRequestById(userId, requestId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests(@RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
-                                                 @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
-                                                 @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size) {
+    public Mono<ResponseEntity<Object>> getAllRequests(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) @Positive long userId,
+            @RequestParam(defaultValue = DEFAULT_START_PAGE) @Min(0) int from,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Positive int size,
+            @RequestParam(required = false) String after) {
+        if (after != null) {
+            log.info("Попытка получить {} запросов после {}", size, after);
+            return itemRequestClient.getRequests(userId, after, size);
+        }
         log.info("Попытка получить {} запросов начиная с {}", size, from);
         return itemRequestClient.getRequests(userId, from, size);
     }
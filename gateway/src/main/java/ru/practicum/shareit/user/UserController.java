@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.utils.Validator;
 
@@ -20,32 +21,33 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@Valid @RequestBody UserDto user) {
+    public Mono<ResponseEntity<Object>> createUser(@Valid @RequestBody UserDto user) {
         log.info("Попытка создать пользователя");
         Validator.validateUser(user);
         return userClient.createUser(user);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public Mono<ResponseEntity<Object>> getAll() {
         log.info("Попытка получить список всех пользователей");
         return userClient.getAllUsers();
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUser(@PathVariable @Positive long userId) {
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable @Positive long userId) {
         log.info("Попытка получить пользователя с id = {}", userId);
         return userClient.getUser(userId);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> deleteUser(@PathVariable @Positive long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable @Positive long userId) {
         log.info("Попытка удалить пользователя с id = {}", userId);
         return userClient.deleteUser(userId);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable @Positive long userId, @Valid @RequestBody UserDto user) {
+    public Mono<ResponseEntity<Object>> updateUser(
+            @PathVariable @Positive long userId, @Valid @RequestBody UserDto user) {
         log.info("Попытка обновить пользователя с id = {}", userId);
         return userClient.updateUser(user, userId);
     }
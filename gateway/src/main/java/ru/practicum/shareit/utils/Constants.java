@@ -10,6 +10,7 @@ public class Constants {
     public static final String HEADER_WITH_USER_ID_NAME = "X-Sharer-User-Id";
     public static final String DEFAULT_PAGE_SIZE = "20";
     public static final String DEFAULT_START_PAGE = "0";
+    public static final int MAX_BATCH_SIZE = 100;
     public static final String WRONG_START_AND_END_BOOKING_DATES_MESSAGE = "Дата конца бронирования должна быть позже даты" +
             " начала бронирования";
     public static final String UNKNOWN_SEARCHING_STATE_MESSAGE = "Unknown state: %s";
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class LoadShedderTest {
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final LoadShedder loadShedder;
+
+    LoadShedderTest() {
+        properties.setMaxConcurrentRequests(2);
+        properties.setDegradedConcurrentRequests(1);
+        properties.setLatencyThreshold(Duration.ofSeconds(1));
+        loadShedder = new LoadShedder(properties);
+    }
+
+    @Test
+    void tryAcquire_WhenConcurrencyLimitReached_ThenRejectRequest() {
+        loadShedder.tryAcquire();
+        loadShedder.tryAcquire();
+
+        assertThat(loadShedder.tryAcquire())
+                .as("Проверка отклонения запроса сверх лимита одновременных запросов")
+                .isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenLatencyExceedsThreshold_ThenLowerConcurrencyLimit() {
+        loadShedder.tryAcquire();
+        loadShedder.release(Duration.ofSeconds(3).toNanos());
+        loadShedder.tryAcquire();
+
+        assertThat(loadShedder.isDegraded())
+                .as("Проверка перехода в режим перегрузки")
+                .isTrue();
+        assertThat(loadShedder.tryAcquire())
+                .as("Проверка отклонения запроса сверх сниженного лимита")
+                .isFalse();
+    }
+}
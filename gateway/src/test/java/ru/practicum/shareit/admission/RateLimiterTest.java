@@ -0,0 +1,59 @@
+package ru.practicum.shareit.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class RateLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private final RateLimiter rateLimiter;
+
+    RateLimiterTest() {
+        properties.setSearch(new AdmissionProperties.BucketLimit(2, 1));
+        rateLimiter = new RateLimiter(properties, now::get);
+    }
+
+    @Test
+    void tryAcquire_WhenBucketIsEmpty_ThenRejectRequest() {
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.SEARCH))
+                .as("Проверка пропуска первого запроса")
+                .isTrue();
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.SEARCH))
+                .as("Проверка пропуска второго запроса")
+                .isTrue();
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.SEARCH))
+                .as("Проверка отклонения запроса сверх лимита")
+                .isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenTokensRefilled_ThenPassRequest() {
+        rateLimiter.tryAcquire("1", EndpointGroup.SEARCH);
+        rateLimiter.tryAcquire("1", EndpointGroup.SEARCH);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.SEARCH))
+                .as("Проверка пропуска запроса после пополнения токенов")
+                .isTrue();
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.SEARCH))
+                .as("Проверка отклонения запроса после расходования пополненных токенов")
+                .isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenBucketOfOtherUserOrGroupIsEmpty_ThenPassRequest() {
+        rateLimiter.tryAcquire("1", EndpointGroup.SEARCH);
+        rateLimiter.tryAcquire("1", EndpointGroup.SEARCH);
+
+        assertThat(rateLimiter.tryAcquire("2", EndpointGroup.SEARCH))
+                .as("Проверка независимости лимитов разных пользователей")
+                .isTrue();
+        assertThat(rateLimiter.tryAcquire("1", EndpointGroup.BOOKINGS))
+                .as("Проверка независимости лимитов разных групп запросов")
+                .isTrue();
+    }
+}
@@ -17,6 +17,9 @@ import ru.practicum.shareit.booking.dto.SearchingState;
 
 import java.nio.charset.Charset;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -24,6 +27,7 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
+import static ru.practicum.shareit.utils.Constants.MAX_BATCH_SIZE;
 import static ru.practicum.shareit.utils.Constants.UNKNOWN_SEARCHING_STATE_MESSAGE;
 
 @WebMvcTest(BookingController.class)
@@ -220,6 +224,51 @@ class BookingControllerITest {
         Mockito.verifyNoMoreInteractions(bookingClient);
     }
 
+    @SneakyThrows
+    @Test
+    void getBookings_WhenNoRequestHeader_ThenReturnBadRequest() {
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @MethodSource("wrongBatchIdsStream")
+    void getBookings_WhenNotValidRequestBody_ThenReturnBadRequest(String input) {
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input)
+                        .header(HEADER_WITH_USER_ID_NAME, 1))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    static Stream<String> wrongBatchIdsStream() {
+        String tooManyIds = LongStream.rangeClosed(1, MAX_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        return Stream.of("[]", "[1, null]", "[1, 0]", "[1, -1]", tooManyIds);
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookings_WhenAllParametersValid_ThenReturnOk() {
+        mockMvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[2, 1]")
+                        .header(HEADER_WITH_USER_ID_NAME, 1))
+                .andExpect(status().isOk());
+
+        verify(bookingClient, Mockito.times(1)).getBookings(1, List.of(2L, 1L));
+        Mockito.verifyNoMoreInteractions(bookingClient);
+    }
+
     @SneakyThrows
     @Test
     void getBookingsByBookerId_WhenNoRequestHeader_ThenReturnBadRequest() {
@@ -306,7 +355,7 @@ class BookingControllerITest {
                 .andExpect(status().isOk());
 
         verify(bookingClient, Mockito.times(1)).getBookingsByBookerId(1, SearchingState.ALL,
-                0, 20);
+                0, 20, false);
         Mockito.verifyNoMoreInteractions(bookingClient);
     }
 
@@ -324,7 +373,7 @@ class BookingControllerITest {
                 .getContentAsString();
 
         verify(bookingClient, Mockito.times(1)).getBookingsByBookerId(1, SearchingState.CURRENT,
-                1, 5);
+                1, 5, false);
         Mockito.verifyNoMoreInteractions(bookingClient);
     }
 
@@ -398,7 +447,7 @@ class BookingControllerITest {
                 .getContentAsString();
 
         verify(bookingClient, Mockito.times(1)).getBookingsByOwnerId(1, SearchingState.ALL,
-                0, 20);
+                0, 20, false);
         Mockito.verifyNoMoreInteractions(bookingClient);
     }
 
@@ -416,7 +465,7 @@ class BookingControllerITest {
                 .getContentAsString();
 
         verify(bookingClient, Mockito.times(1)).getBookingsByOwnerId(1, SearchingState.PAST,
-                1, 5);
+                1, 5, false);
         Mockito.verifyNoMoreInteractions(bookingClient);
     }
 
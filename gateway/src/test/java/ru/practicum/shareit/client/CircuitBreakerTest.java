@@ -0,0 +1,60 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(10), now::get);
+
+    @Test
+    void tryAcquire_WhenFailureThresholdReached_ThenRejectCalls() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState())
+                .as("Проверка размыкания цепи после серии ошибок")
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire())
+                .as("Проверка отклонения вызова при разомкнутой цепи")
+                .isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenOpenDurationPassed_ThenAllowOneTrialCall() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquire())
+                .as("Проверка пропуска пробного вызова")
+                .isTrue();
+        assertThat(circuitBreaker.tryAcquire())
+                .as("Проверка отклонения вызовов во время пробного вызова")
+                .isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState())
+                .as("Проверка замыкания цепи после успешного пробного вызова")
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void onFailure_WhenTrialCallFailed_ThenOpenCircuitAgain() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState())
+                .as("Проверка повторного размыкания цепи после ошибки пробного вызова")
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
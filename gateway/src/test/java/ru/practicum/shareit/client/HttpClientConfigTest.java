@@ -0,0 +1,49 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class HttpClientConfigTest {
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    @Test
+    void shareItServerConnectionManager_WhenPropertiesSet_ThenApplyPoolLimits() {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxTotal(50);
+        properties.setMaxPerRoute(25);
+        properties.setValidateAfterInactivity(Duration.ofMillis(500));
+
+        PoolingHttpClientConnectionManager connectionManager = config.shareItServerConnectionManager(properties);
+
+        assertThat(connectionManager.getMaxTotal())
+                .as("Проверка максимального размера пула соединений")
+                .isEqualTo(50);
+        assertThat(connectionManager.getDefaultMaxPerRoute())
+                .as("Проверка максимального количества соединений на один адрес")
+                .isEqualTo(25);
+        assertThat(connectionManager.getValidateAfterInactivity())
+                .as("Проверка времени, после которого простаивающее соединение проверяется")
+                .isEqualTo(500);
+    }
+
+    @Test
+    void shareItServerConnectionPoolMetrics_WhenBound_ThenRegisterPoolGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PoolingHttpClientConnectionManager connectionManager = config.shareItServerConnectionManager(
+                new HttpClientProperties());
+
+        config.shareItServerConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        assertThat(registry.find("httpcomponents.httpclient.pool.total.max").gauge())
+                .as("Проверка регистрации метрики размера пула соединений")
+                .isNotNull();
+        assertThat(registry.find("httpcomponents.httpclient.pool.total.max").gauge().value())
+                .as("Проверка значения метрики размера пула соединений")
+                .isEqualTo(200.0);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class RequestCoalescerTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void coalesce_WhenIdenticalRequestIsInFlight_ThenSendOneRequest() {
+        Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+        ResponseEntity<Object> response = ResponseEntity.ok(new byte[]{1});
+
+        ResponseEntity<?>[] results = new ResponseEntity<?>[2];
+        coalescer.coalesce("/items/1#2", () -> request(upstream.asMono())).subscribe(r -> results[0] = r);
+        coalescer.coalesce("/items/1#2", () -> request(upstream.asMono())).subscribe(r -> results[1] = r);
+        upstream.tryEmitValue(response);
+
+        assertThat(upstreamCalls.get())
+                .as("Проверка отправки одного запроса к серверу")
+                .isEqualTo(1);
+        assertThat(results[0])
+                .as("Проверка получения ответа первым запросом")
+                .isSameAs(response);
+        assertThat(results[1])
+                .as("Проверка получения ответа объединенным запросом")
+                .isSameAs(response);
+        assertThat(meterRegistry.counter("shareit-server.requests", "outcome", "merged").count())
+                .as("Проверка учета объединенных запросов в метриках")
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void coalesce_WhenPreviousRequestCompleted_ThenSendNewRequest() {
+        coalescer.coalesce("/items/1#2", () -> request(Mono.just(ResponseEntity.ok().build()))).block();
+        coalescer.coalesce("/items/1#2", () -> request(Mono.just(ResponseEntity.ok().build()))).block();
+
+        assertThat(upstreamCalls.get())
+                .as("Проверка отправки нового запроса после завершения предыдущего")
+                .isEqualTo(2);
+        assertThat(meterRegistry.counter("shareit-server.requests", "outcome", "sent").count())
+                .as("Проверка учета отправленных запросов в метриках")
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void coalesce_WhenRequestsDiffer_ThenSendEachRequest() {
+        Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+
+        coalescer.coalesce("/items/1#2", () -> request(upstream.asMono())).subscribe();
+        coalescer.coalesce("/items/1#3", () -> request(upstream.asMono())).subscribe();
+        upstream.tryEmitValue(ResponseEntity.ok().build());
+
+        assertThat(upstreamCalls.get())
+                .as("Проверка отправки отдельных запросов для разных пользователей")
+                .isEqualTo(2);
+    }
+
+    private Mono<ResponseEntity<Object>> request(Mono<ResponseEntity<Object>> response) {
+        upstreamCalls.incrementAndGet();
+        return response;
+    }
+}
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class ResponseCacheTest {
+    private static final String KEY = ResponseCache.key("/items/1", 2L);
+    private static final String ETAG = "\"0a1b2c\"";
+    private static final Duration FRESH_FOR = Duration.ofSeconds(5);
+    private final AtomicLong now = new AtomicLong();
+    private final ResponseCache cache = cache(Duration.ZERO);
+    private final ResponseCache freshCache = cache(FRESH_FOR);
+    private final List<HttpHeaders> requests = new ArrayList<>();
+
+    @Test
+    void get_WhenServerRespondsNotModified_ThenReturnCachedResponse() {
+        ResponseEntity<Object> first = ResponseEntity.ok().eTag(ETAG).body(new byte[]{1});
+        cache.get(KEY, respond(first)).block();
+
+        ResponseEntity<Object> response = cache.get(KEY,
+                respond(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETAG).build())).block();
+
+        assertThat(requests.get(0).getIfNoneMatch().isEmpty())
+                .as("Проверка отсутствия заголовка If-None-Match при первом запросе")
+                .isTrue();
+        assertThat(requests.get(1).getIfNoneMatch().get(0))
+                .as("Проверка передачи ETag сохраненного ответа в заголовке If-None-Match")
+                .isEqualTo(ETAG);
+        assertThat(response)
+                .as("Проверка возврата сохраненного ответа")
+                .isSameAs(first);
+    }
+
+    @Test
+    void get_WhenServerRespondsWithNewVersion_ThenReplaceCachedResponse() {
+        cache.get(KEY, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{1}))).block();
+        ResponseEntity<Object> updated = ResponseEntity.ok().eTag("\"3d4e5f\"").body(new byte[]{2});
+
+        ResponseEntity<Object> response = cache.get(KEY, respond(updated)).block();
+        cache.get(KEY, respond(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build())).block();
+
+        assertThat(response)
+                .as("Проверка возврата нового ответа сервера")
+                .isSameAs(updated);
+        assertThat(requests.get(2).getIfNoneMatch().get(0))
+                .as("Проверка передачи ETag нового ответа в заголовке If-None-Match")
+                .isEqualTo("\"3d4e5f\"");
+    }
+
+    @Test
+    void get_WhenServerRespondsWithError_ThenEvictCachedResponse() {
+        cache.get(KEY, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{1}))).block();
+        ResponseEntity<Object> notFound = ResponseEntity.status(HttpStatus.NOT_FOUND).body(new byte[]{3});
+
+        ResponseEntity<Object> response = cache.get(KEY, respond(notFound)).block();
+        cache.get(KEY, respond(notFound)).block();
+
+        assertThat(response)
+                .as("Проверка возврата ошибки сервера")
+                .isSameAs(notFound);
+        assertThat(requests.get(2).getIfNoneMatch().isEmpty())
+                .as("Проверка удаления сохраненного ответа после ошибки сервера")
+                .isTrue();
+    }
+
+    @Test
+    void get_WhenCachedResponseIsFresh_ThenDoNotCallServer() {
+        ResponseEntity<Object> first = ResponseEntity.ok().eTag(ETAG).body(new byte[]{1});
+        freshCache.get(KEY, respond(first)).block();
+        now.addAndGet(FRESH_FOR.toNanos() - 1);
+
+        ResponseEntity<Object> response = freshCache.get(KEY,
+                respond(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETAG).build())).block();
+
+        assertThat(requests.size())
+                .as("Проверка отсутствия запроса к серверу за свежим ответом")
+                .isEqualTo(1);
+        assertThat(response)
+                .as("Проверка возврата сохраненного ответа")
+                .isSameAs(first);
+    }
+
+    @Test
+    void get_WhenCachedResponseIsStale_ThenRevalidateItAndKeepFreshAgain() {
+        ResponseEntity<Object> first = ResponseEntity.ok().eTag(ETAG).body(new byte[]{1});
+        freshCache.get(KEY, respond(first)).block();
+        now.addAndGet(FRESH_FOR.toNanos());
+
+        ResponseEntity<Object> response = freshCache.get(KEY,
+                respond(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETAG).build())).block();
+        freshCache.get(KEY, respond(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build())).block();
+
+        assertThat(requests.size())
+                .as("Проверка повторной проверки только устаревшего ответа")
+                .isEqualTo(2);
+        assertThat(requests.get(1).getIfNoneMatch().get(0))
+                .as("Проверка передачи ETag устаревшего ответа в заголовке If-None-Match")
+                .isEqualTo(ETAG);
+        assertThat(response)
+                .as("Проверка возврата сохраненного ответа")
+                .isSameAs(first);
+    }
+
+    @Test
+    void invalidate_WhenResourceIsChanged_ThenEvictItsResponsesForAllUsers() {
+        String otherUserKey = ResponseCache.key("/items/1", 3L);
+        String otherItemKey = ResponseCache.key("/items/10", 2L);
+        freshCache.get(KEY, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{1}))).block();
+        freshCache.get(otherUserKey, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{1}))).block();
+        freshCache.get(otherItemKey, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{1}))).block();
+
+        freshCache.invalidate("/items/1/comment");
+        freshCache.get(KEY, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{2}))).block();
+        freshCache.get(otherUserKey, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{2}))).block();
+        freshCache.get(otherItemKey, respond(ResponseEntity.ok().eTag(ETAG).body(new byte[]{2}))).block();
+
+        assertThat(requests.size())
+                .as("Проверка запроса к серверу только за ответами измененной вещи")
+                .isEqualTo(5);
+        assertThat(requests.get(3).getIfNoneMatch().isEmpty() && requests.get(4).getIfNoneMatch().isEmpty())
+                .as("Проверка удаления сохраненных ответов измененной вещи для всех пользователей")
+                .isTrue();
+    }
+
+    private ResponseCache cache(Duration freshFor) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setFreshFor(freshFor);
+        return new ResponseCache(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    private Function<HttpHeaders, Mono<ResponseEntity<Object>>> respond(ResponseEntity<Object> response) {
+        return headers -> {
+            requests.add(headers);
+            return Mono.just(response);
+        };
+    }
+}
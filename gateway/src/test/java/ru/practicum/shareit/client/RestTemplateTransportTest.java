@@ -0,0 +1,74 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class RestTemplateTransportTest {
+    private final RestTemplate rest = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+    private final RestTemplateTransport transport = new RestTemplateTransport(rest);
+
+    @Test
+    void exchange_WhenServerRespondsOk_ThenPassBodyAndHeadersThrough() {
+        String body = "{\"id\":1,\"name\":\"name\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "cursor");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        server.expect(requestTo("/users/1"))
+                .andExpect(header("X-Sharer-User-Id", "2"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<Object> response = transport.exchange(HttpMethod.GET, "/users/1", 2L, null, null).block();
+
+        assertThat(response.getStatusCode())
+                .as("Проверка статуса ответа")
+                .isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .as("Проверка передачи тела ответа сервера без преобразования")
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getContentType())
+                .as("Проверка передачи типа содержимого ответа сервера")
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor"))
+                .as("Проверка передачи заголовков ответа сервера")
+                .isEqualTo("cursor");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONNECTION))
+                .as("Проверка отбрасывания заголовков, относящихся к соединению с сервером")
+                .isFalse();
+        server.verify();
+    }
+
+    @Test
+    void exchange_WhenServerRespondsWithError_ThenPassErrorThrough() {
+        String body = "{\"error\":\"Пользователь не найден\"}";
+        server.expect(requestTo("/users/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(body));
+
+        ResponseEntity<Object> response = transport.exchange(HttpMethod.GET, "/users/1", null, null, null).block();
+
+        assertThat(response.getStatusCode())
+                .as("Проверка статуса ответа с ошибкой")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody())
+                .as("Проверка передачи тела ответа с ошибкой")
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getContentType())
+                .as("Проверка передачи типа содержимого ответа с ошибкой")
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        server.verify();
+    }
+}
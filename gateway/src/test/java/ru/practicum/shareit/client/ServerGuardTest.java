@@ -0,0 +1,60 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class ServerGuardTest {
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private final ServerGuard serverGuard;
+
+    ServerGuardTest() {
+        properties.setMaxConcurrentCalls(Map.of("search", 1));
+        properties.setFailureThreshold(1);
+        serverGuard = new ServerGuard(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void call_WhenBulkheadIsFull_ThenFailFastOnlyInSameGroup() {
+        Sinks.One<ResponseEntity<Object>> slowSearch = Sinks.one();
+        serverGuard.call("search", slowSearch::asMono).subscribe();
+
+        ResponseEntity<Object> search = serverGuard.call("search", () -> Mono.just(ResponseEntity.ok().build()))
+                .block();
+        ResponseEntity<Object> booking = serverGuard.call("bookings", () -> Mono.just(ResponseEntity.ok().build()))
+                .block();
+
+        assertThat(search.getStatusCode())
+                .as("Проверка отклонения запроса сверх лимита группы")
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(booking.getStatusCode())
+                .as("Проверка выполнения запроса другой группы")
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void call_WhenServerFails_ThenOpenCircuit() {
+        serverGuard.call("items", () -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build()))
+                .block();
+        int[] calls = new int[1];
+
+        ResponseEntity<Object> response = serverGuard.call("items", () -> {
+            calls[0]++;
+            return Mono.just(ResponseEntity.ok().build());
+        }).block();
+
+        assertThat(response.getStatusCode())
+                .as("Проверка быстрого отказа при разомкнутой цепи")
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(calls[0])
+                .as("Проверка отсутствия запроса к серверу при разомкнутой цепи")
+                .isEqualTo(0);
+    }
+}
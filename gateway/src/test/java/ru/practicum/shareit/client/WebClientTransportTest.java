@@ -0,0 +1,84 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class WebClientTransportTest {
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    void exchange_WhenServerRespondsOk_ThenPassBodyAndHeadersThrough() {
+        String body = "[{\"id\":1,\"name\":\"name\"}]";
+        WebClientTransport transport = createTransport(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Next-Cursor", "cursor")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(body)
+                .build());
+
+        ResponseEntity<Object> response = transport.exchange(HttpMethod.GET, "?from={from}&size={size}", 2L,
+                Map.of("from", 0, "size", 20), null).block();
+
+        assertThat(requests.get(0).url().toString())
+                .as("Проверка адреса запроса к серверу")
+                .isEqualTo("http://localhost:9090/items?from=0&size=20");
+        assertThat(requests.get(0).headers().getFirst("X-Sharer-User-Id"))
+                .as("Проверка передачи id пользователя серверу")
+                .isEqualTo("2");
+        assertThat(response.getStatusCode())
+                .as("Проверка статуса ответа")
+                .isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .as("Проверка передачи тела ответа сервера без преобразования")
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor"))
+                .as("Проверка передачи заголовков ответа сервера")
+                .isEqualTo("cursor");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING))
+                .as("Проверка отбрасывания заголовков, относящихся к соединению с сервером")
+                .isFalse();
+    }
+
+    @Test
+    void exchange_WhenServerRespondsWithError_ThenPassErrorThrough() {
+        String body = "{\"error\":\"Вещь не найдена\"}";
+        WebClientTransport transport = createTransport(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+
+        ResponseEntity<Object> response = transport.exchange(HttpMethod.GET, "/1", 2L, null, null).block();
+
+        assertThat(response.getStatusCode())
+                .as("Проверка статуса ответа с ошибкой")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody())
+                .as("Проверка передачи тела ответа с ошибкой")
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private WebClientTransport createTransport(ClientResponse response) {
+        return new WebClientTransport(WebClient.builder()
+                .baseUrl("http://localhost:9090/items")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(response);
+                })
+                .build());
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Sinks;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemClientTest {
+    private final Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+    private final List<Long> requestedUserIds = new ArrayList<>();
+    private final ItemClient itemClient = new ItemClient(
+            apiPrefix -> (method, path, userId, parameters, body, headers) -> {
+                requestedUserIds.add(userId);
+                return upstream.asMono();
+            },
+            new RequestCoalescer(new SimpleMeterRegistry()),
+            new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry()));
+
+    @Test
+    void searchItems_WhenSameTextSearchedTwice_ThenSendOneRequestWithoutUser() {
+        itemClient.searchItems("дрель", 0, 20).subscribe();
+        itemClient.searchItems("дрель", 0, 20).subscribe();
+        upstream.tryEmitValue(ResponseEntity.ok().build());
+
+        assertThat(requestedUserIds)
+                .as("Проверка объединения одинаковых поисковых запросов без заголовка пользователя")
+                .containsExactly((Long) null);
+    }
+
+    @Test
+    void getItem_WhenDifferentUsersRequestSameItem_ThenSendRequestForEachUser() {
+        itemClient.getItem(1, 2).subscribe();
+        itemClient.getItem(1, 3).subscribe();
+        upstream.tryEmitValue(ResponseEntity.ok().build());
+
+        assertThat(requestedUserIds)
+                .as("Проверка отдельных запросов вещи для разных пользователей")
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void getItem_WhenSameUserRequestsItemTwice_ThenSendOneRequest() {
+        itemClient.getItem(1, 2).subscribe();
+        itemClient.getItem(1, 2).subscribe();
+        upstream.tryEmitValue(ResponseEntity.ok().build());
+
+        assertThat(requestedUserIds)
+                .as("Проверка объединения одинаковых запросов вещи одного пользователя")
+                .containsExactly(2L);
+    }
+}
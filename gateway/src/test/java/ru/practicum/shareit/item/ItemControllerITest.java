@@ -14,18 +14,26 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
+import static ru.practicum.shareit.utils.Constants.MAX_BATCH_SIZE;
 
 @WebMvcTest(ItemController.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -99,9 +107,9 @@ class ItemControllerITest {
         ItemDto input = new ItemDto(0, "name", "description", true, 1L);
         ItemDto output = new ItemDto(1, "name", "description", true, 1L);
         ResponseEntity<Object> response = new ResponseEntity<>(output, HttpStatus.OK);
-        when(itemClient.createItem(1, input)).thenReturn(response);
+        when(itemClient.createItem(1, input)).thenReturn(Mono.just(response));
 
-        String actualOutput = mockMvc.perform(post("/items")
+        String actualOutput = performAsync(post("/items")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(input))
                         .header(HEADER_WITH_USER_ID_NAME, 1))
@@ -177,9 +185,9 @@ class ItemControllerITest {
     void updateItem_WhenAllParametersValid_ThenReturnOk() {
         ItemDto input = new ItemDto(1, "new", "new_description", true, 1L);
         ResponseEntity<Object> response = new ResponseEntity<>(input, HttpStatus.OK);
-        when(itemClient.updateItem(1, input, 1)).thenReturn(response);
+        when(itemClient.updateItem(1, input, 1)).thenReturn(Mono.just(response));
 
-        String actualOutput = mockMvc.perform(patch("/items/{itemId}", 1)
+        String actualOutput = performAsync(patch("/items/{itemId}", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(input))
                         .header(HEADER_WITH_USER_ID_NAME, 1))
@@ -245,6 +253,51 @@ class ItemControllerITest {
         Mockito.verifyNoMoreInteractions(itemClient);
     }
 
+    @SneakyThrows
+    @Test
+    void getItems_WhenNoRequestHeader_ThenReturnBadRequest() {
+        mockMvc.perform(post("/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 2]"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @MethodSource("wrongBatchIdsStream")
+    void getItems_WhenNotValidRequestBody_ThenReturnBadRequest(String input) {
+        mockMvc.perform(post("/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input)
+                        .header(HEADER_WITH_USER_ID_NAME, 1))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    static Stream<String> wrongBatchIdsStream() {
+        String tooManyIds = LongStream.rangeClosed(1, MAX_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        return Stream.of("[]", "[1, null]", "[1, 0]", "[1, -1]", tooManyIds);
+    }
+
+    @SneakyThrows
+    @Test
+    void getItems_WhenAllParametersValid_ThenReturnOk() {
+        mockMvc.perform(post("/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[2, 1]")
+                        .header(HEADER_WITH_USER_ID_NAME, 1))
+                .andExpect(status().isOk());
+
+        verify(itemClient, Mockito.times(1)).getItems(1, List.of(2L, 1L));
+        Mockito.verifyNoMoreInteractions(itemClient);
+    }
+
     @SneakyThrows
     @Test
     void getUsersItems_WhenNoRequestHeader_ThenReturnBadRequest() {
@@ -383,9 +436,9 @@ class ItemControllerITest {
     void searchItems_WhenNoRequestParams_ThenReturnOk() {
         ItemDto itemDto = new ItemDto(1, "new", "new_description", true, 1L);
         ResponseEntity<Object> response = new ResponseEntity<>(List.of(itemDto), HttpStatus.OK);
-        when(itemClient.searchItems(1, "search", 0, 20)).thenReturn(response);
+        when(itemClient.searchItems("search", 0, 20)).thenReturn(Mono.just(response));
 
-        String output = mockMvc.perform(get("/items/search")
+        String output = performAsync(get("/items/search")
                         .header(HEADER_WITH_USER_ID_NAME, 1)
                         .param("text", "search"))
                 .andExpect(status().isOk())
@@ -398,7 +451,21 @@ class ItemControllerITest {
                 .as("Проверка возвращаемого значения при получении вещей по поисковой строке")
                 .isNotNull()
                 .isEqualTo(objectMapper.writeValueAsString(List.of(itemDto)));
-        verify(itemClient, Mockito.times(1)).searchItems(1, "search", 0, 20);
+        verify(itemClient, Mockito.times(1)).searchItems("search", 0, 20);
+        Mockito.verifyNoMoreInteractions(itemClient);
+    }
+
+    @SneakyThrows
+    @Test
+    void searchItems_WhenDifferentUsersSearchSameText_ThenMakeSameClientCall() {
+        for (long userId = 1; userId <= 2; userId++) {
+            mockMvc.perform(get("/items/search")
+                            .header(HEADER_WITH_USER_ID_NAME, userId)
+                            .param("text", "search"))
+                    .andExpect(status().isOk());
+        }
+
+        verify(itemClient, Mockito.times(2)).searchItems("search", 0, 20);
         Mockito.verifyNoMoreInteractions(itemClient);
     }
 
@@ -412,7 +479,7 @@ class ItemControllerITest {
                         .param("size", "5"))
                 .andExpect(status().isOk());
 
-        verify(itemClient, Mockito.times(1)).searchItems(1, "search", 1, 5);
+        verify(itemClient, Mockito.times(1)).searchItems("search", 1, 5);
         Mockito.verifyNoMoreInteractions(itemClient);
     }
 
@@ -495,9 +562,9 @@ class ItemControllerITest {
     void createComment_WhenAllParametersValid_ThenReturnOk() {
         CommentDto input = new CommentDto(0L, "text", null, null);
         ResponseEntity<Object> response = new ResponseEntity<>(input, HttpStatus.OK);
-        when(itemClient.createComment(input, 1, 1)).thenReturn(response);
+        when(itemClient.createComment(input, 1, 1)).thenReturn(Mono.just(response));
 
-        String actualOutput = mockMvc.perform(post("/items/{itemId}/comment", 1)
+        String actualOutput = performAsync(post("/items/{itemId}/comment", 1)
                         .header(HEADER_WITH_USER_ID_NAME, 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(input)))
@@ -513,4 +580,12 @@ class ItemControllerITest {
         verify(itemClient, Mockito.times(1)).createComment(input, 1, 1);
         Mockito.verifyNoMoreInteractions(itemClient);
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -14,6 +14,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.Charset;
@@ -25,6 +29,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.practicum.shareit.utils.Constants.NOT_EMPTY_EMAIL_MESSAGE;
 import static ru.practicum.shareit.utils.Constants.NOT_EMPTY_USER_NAME_MESSAGE;
@@ -105,9 +110,9 @@ class UserControllerITest {
         UserDto outputDto = new UserDto(1, "name", "mail@mail.ru");
         ResponseEntity<Object> response = new ResponseEntity<>(outputDto, HttpStatus.OK);
 
-        when(userClient.createUser(inputDto)).thenReturn(response);
+        when(userClient.createUser(inputDto)).thenReturn(Mono.just(response));
 
-        String actualOutput = mockMvc.perform(post("/users")
+        String actualOutput = performAsync(post("/users")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputDto)))
                 .andExpect(status().isOk())
@@ -128,9 +133,9 @@ class UserControllerITest {
     void getAll_WhenUsersDoNotExist_ThenReturnOk() {
         ArrayList<UserDto> emptyList = new ArrayList<>();
         ResponseEntity<Object> response = new ResponseEntity<>(emptyList, HttpStatus.OK);
-        when(userClient.getAllUsers()).thenReturn(response);
+        when(userClient.getAllUsers()).thenReturn(Mono.just(response));
 
-        String output = mockMvc.perform(get("/users"))
+        String output = performAsync(get("/users"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -150,9 +155,9 @@ class UserControllerITest {
         List<UserDto> users = List.of(new UserDto(1, "name1", "mail1@mail.ru"),
                 new UserDto(2, "name2", "mail2@mail.ru"));
         ResponseEntity<Object> response = new ResponseEntity<>(users, HttpStatus.OK);
-        when(userClient.getAllUsers()).thenReturn(response);
+        when(userClient.getAllUsers()).thenReturn(Mono.just(response));
 
-        String output = mockMvc.perform(get("/users"))
+        String output = performAsync(get("/users"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -184,9 +189,9 @@ class UserControllerITest {
         long id = 1;
         UserDto outputDto = new UserDto(id, "name", "mail@mail.ru");
         ResponseEntity<Object> response = new ResponseEntity<>(outputDto, HttpStatus.OK);
-        when(userClient.getUser(id)).thenReturn(response);
+        when(userClient.getUser(id)).thenReturn(Mono.just(response));
 
-        String actualOutput = mockMvc.perform(get("/users/{userId}", id))
+        String actualOutput = performAsync(get("/users/{userId}", id))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -257,9 +262,9 @@ class UserControllerITest {
         long userId = 1;
         UserDto inputDto = new UserDto(1, "new", "new@mail.ru");
         ResponseEntity<Object> response = new ResponseEntity<>(inputDto, HttpStatus.OK);
-        when(userClient.updateUser(inputDto, userId)).thenReturn(response);
+        when(userClient.updateUser(inputDto, userId)).thenReturn(Mono.just(response));
 
-        String output = mockMvc.perform(patch("/users/{userId}", 1)
+        String output = performAsync(patch("/users/{userId}", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(inputDto)))
                 .andExpect(status().isOk())
@@ -273,4 +278,12 @@ class UserControllerITest {
                 .isEqualTo(objectMapper.writeValueAsString(inputDto));
         verify(userClient, Mockito.times(1)).updateUser(inputDto, userId);
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
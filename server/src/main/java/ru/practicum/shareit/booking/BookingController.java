@@ -2,11 +2,14 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
+import ru.practicum.shareit.booking.model.BookingMapper;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -41,21 +44,61 @@ public class BookingController {
         return bookingService.getBooking(userId, bookingId);
     }
 
+    @PostMapping("/batch")
+    public List<BookingDto> getBookings(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
+                                        @RequestBody List<Long> bookingIds) {
+        log.info("Попытка получить {} бронирований по списку id пользователем с id = {}", bookingIds.size(), userId);
+        return bookingService.getBookings(userId, bookingIds);
+    }
+
     @GetMapping
-    public List<BookingDto> getBookingsByBookerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
-                                                  @RequestParam SearchingState state, @RequestParam int from,
-                                                  @RequestParam int size) {
-        log.info("Попытка получить {} бронирований начиная с {} со статусом {} автора бронирований с id = {}", size,
-                from, state, userId);
-        return bookingService.getBookingsByBookerId(userId, state, from, size);
+    public ResponseEntity<?> getBookingsByBookerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
+                                                   @RequestParam SearchingState state,
+                                                   @RequestParam(defaultValue = "0") int from,
+                                                   @RequestParam int size,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "false") boolean compact) {
+        List<BookingDto> bookings;
+        if (after == null) {
+            log.info("Попытка получить {} бронирований начиная с {} со статусом {} автора бронирований с id = {}",
+                    size, from, state, userId);
+            bookings = bookingService.getBookingsByBookerId(userId, state, from, size);
+        } else {
+            log.info("Попытка получить {} бронирований после {} со статусом {} автора бронирований с id = {}",
+                    size, after, state, userId);
+            bookings = bookingService.getBookingsByBookerId(userId, state, PageCursor.decode(after), size);
+        }
+        return toResponse(bookings, size, compact);
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getBookingsByOwnerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
-                                                 @RequestParam SearchingState state, @RequestParam int from,
-                                                 @RequestParam int size) {
-        log.info("Попытка получить {} бронирований начиная с {} со статусом {} владельца вещей с id = {}", size, from,
-                state, userId);
-        return bookingService.getBookingsByOwnerId(userId, state, from, size);
+    public ResponseEntity<?> getBookingsByOwnerId(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
+                                                  @RequestParam SearchingState state,
+                                                  @RequestParam(defaultValue = "0") int from,
+                                                  @RequestParam int size,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(defaultValue = "false") boolean compact) {
+        List<BookingDto> bookings;
+        if (after == null) {
+            log.info("Попытка получить {} бронирований начиная с {} со статусом {} владельца вещей с id = {}", size,
+                    from, state, userId);
+            bookings = bookingService.getBookingsByOwnerId(userId, state, from, size);
+        } else {
+            log.info("Попытка получить {} бронирований после {} со статусом {} владельца вещей с id = {}", size,
+                    after, state, userId);
+            bookings = bookingService.getBookingsByOwnerId(userId, state, PageCursor.decode(after), size);
+        }
+        return toResponse(bookings, size, compact);
+    }
+
+    private ResponseEntity<?> toResponse(List<BookingDto> bookings, int size, boolean compact) {
+        ResponseEntity<List<BookingDto>> response = PageCursor.toResponse(bookings, size,
+                booking -> new PageCursor(booking.getStart(), booking.getId()));
+        if (!compact) {
+            return response;
+        }
+        return ResponseEntity.ok()
+                .headers(response.getHeaders())
+                .body(BookingMapper.toCompactBookingsDto(bookings));
     }
 }
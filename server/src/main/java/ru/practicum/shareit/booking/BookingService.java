@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -13,7 +14,13 @@ public interface BookingService {
 
     BookingDto getBooking(long userId, long bookingId);
 
+    List<BookingDto> getBookings(long userId, List<Long> bookingIds);
+
     List<BookingDto> getBookingsByBookerId(long userId, SearchingState state, int from, int size);
 
+    List<BookingDto> getBookingsByBookerId(long userId, SearchingState state, PageCursor after, int size);
+
     List<BookingDto> getBookingsByOwnerId(long userId, SearchingState state, int from, int size);
+
+    List<BookingDto> getBookingsByOwnerId(long userId, SearchingState state, PageCursor after, int size);
 }
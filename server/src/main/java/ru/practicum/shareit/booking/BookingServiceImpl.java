@@ -2,12 +2,11 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
@@ -20,11 +19,14 @@ import ru.practicum.shareit.exception.NotAvailableException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemStorage;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,9 +41,10 @@ public class BookingServiceImpl implements BookingService {
     private final BookingStorage bookingStorage;
     private final ItemStorage itemStorage;
     private final UserStorage userStorage;
+    private final UserDirectory userDirectory;
 
     @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Transactional
     public BookingDto createBooking(BookingCreationDto bookingDto, long userId) {
         Optional<User> user = userStorage.findById(userId);
         if (user.isEmpty()) {
@@ -78,51 +81,57 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Transactional
     public BookingDto setBookingStatus(long userId, long bookingId, boolean approved) {
-        Booking booking = getBookingById(bookingId);
+        Status status = approved ? Status.APPROVED : Status.REJECTED;
 
-        if (!itemStorage.existsByUser_IdAndId(userId, booking.getItem().getId())) {
-            log.warn("Выполнена попытка изменить статус бронирования вещи с id = {} пользователем с id = {}, который " +
-                    "не является ее владельцем", booking.getItem().getId(), userId);
-            throw new SecurityException(NOT_OWNER_CANNOT_CHANGE_BOOKING_STATUS_MESSAGE);
-        }
+        if (updateWaitingStatus(userId, bookingId, status) == 0) {
+            Booking booking = getBookingById(bookingId);
+
+            if (!booking.getItem().getUser().getId().equals(userId)) {
+                log.warn("Выполнена попытка изменить статус бронирования вещи с id = {} пользователем с id = {}, " +
+                        "который не является ее владельцем", booking.getItem().getId(), userId);
+                throw new SecurityException(NOT_OWNER_CANNOT_CHANGE_BOOKING_STATUS_MESSAGE);
+            }
+
+            if (approved && booking.getStatus().equals(Status.WAITING)) {
+                log.warn("Выполнена попытка подтвердить бронирование с id = {}, пересекающееся по времени с уже" +
+                        " подтвержденным бронированием вещи с id = {}", bookingId, booking.getItem().getId());
+                throw new AlreadyExistException(String.format(TIME_NOT_AVAILABLE_FOR_BOOKING_MESSAGE,
+                        booking.getStart().format(FORMATTER), booking.getEnd().format(FORMATTER)));
+            }
 
-        if (!booking.getStatus().equals(Status.WAITING)) {
             log.warn("Выполнена попытка повторно изменить статус бронирования вещи с id = {} пользователем с id = {}",
                     bookingId, userId);
             throw new IllegalArgumentException(USER_CANNOT_CHANGE_BOOKING_STATUS_TWICE_MESSAGE);
         }
 
-        if (approved) {
-            booking.setStatus(Status.APPROVED);
-            log.info("Изменен статус бронирования с id = {} на {}", bookingId, Status.APPROVED);
-        } else {
-            booking.setStatus(Status.REJECTED);
-            log.info("Изменен статус бронирования с id = {} на {}", bookingId, Status.REJECTED);
-        }
-
-        return BookingMapper.toBookingDto(bookingStorage.save(booking));
+        log.info("Изменен статус бронирования с id = {} на {}", bookingId, status);
+        return BookingMapper.toBookingDto(getVisibleBooking(userId, bookingId));
     }
 
     @Override
     public BookingDto getBooking(long userId, long bookingId) {
-        Booking booking = getBookingById(bookingId);
+        return BookingMapper.toBookingDto(getVisibleBooking(userId, bookingId));
+    }
 
-        if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getUser().getId().equals(userId)) {
-            log.warn("Выполнена попытка получить бронирование с id = {} пользователем с id = {}, который не является " +
-                    "автором бронирования или владельцем вещи", bookingId, userId);
-            throw new SecurityException(NOT_BOOKING_OR_ITEM_OWNER_CANNOT_GET_BOOKING_MESSAGE);
+    @Override
+    public List<BookingDto> getBookings(long userId, List<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        return BookingMapper.toBookingDto(booking);
+        List<Booking> bookings = bookingStorage.findVisibleByIdIn(bookingIds, userId);
+        log.info("Получен список бронирований длиной {} по {} запрошенным id пользователем с id = {}",
+                bookings.size(), bookingIds.size(), userId);
+        return BookingMapper.toBookingDto(bookings);
     }
 
     @Override
     public List<BookingDto> getBookingsByBookerId(long userId, SearchingState state, int from, int size) {
-        Sort sortByStartDate = Sort.by(Sort.Direction.DESC, "start");
+        Sort sortByStartDate = Sort.by(Sort.Direction.DESC, "start", "id");
         Pageable page = PageRequest.of(from / size, size, sortByStartDate);
-        Page<Booking> bookings;
+        List<Booking> bookings;
 
         checkUserExistence(userId);
 
@@ -152,15 +161,56 @@ public class BookingServiceImpl implements BookingService {
         }
 
         log.info("Получен список бронирований автора с id = {} со статусом {} длиной {}", userId, state,
-                bookings.getContent().size());
-        return BookingMapper.toBookingDto(bookings.getContent());
+                bookings.size());
+        return BookingMapper.toBookingDto(bookings);
+    }
+
+    @Override
+    public List<BookingDto> getBookingsByBookerId(long userId, SearchingState state, PageCursor after, int size) {
+        Pageable page = PageRequest.of(0, size);
+        LocalDateTime start = after.getRequiredTime();
+        List<Booking> bookings;
+
+        checkUserExistence(userId);
+
+        switch (state) {
+            case ALL:
+                bookings = bookingStorage.findByBookerIdAfter(userId, start, after.getId(), page);
+                break;
+            case PAST:
+                bookings = bookingStorage.findByBookerIdAndEndBeforeAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            case FUTURE:
+                bookings = bookingStorage.findByBookerIdAndStartAfterAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            case CURRENT:
+                bookings = bookingStorage.findCurrentByBookerIdAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            case WAITING:
+                bookings = bookingStorage.findByBookerIdAndStatusAfter(userId, Status.WAITING, start, after.getId(),
+                        page);
+                break;
+            case REJECTED:
+                bookings = bookingStorage.findByBookerIdAndStatusAfter(userId, Status.REJECTED, start, after.getId(),
+                        page);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(UNKNOWN_SEARCHING_STATE_MESSAGE, state));
+        }
+
+        log.info("Получен список бронирований автора с id = {} со статусом {} после {} длиной {}", userId, state,
+                after, bookings.size());
+        return BookingMapper.toBookingDto(bookings);
     }
 
     @Override
     public List<BookingDto> getBookingsByOwnerId(long userId, SearchingState state, int from, int size) {
-        Sort sortByStartDate = Sort.by(Sort.Direction.DESC, "start");
+        Sort sortByStartDate = Sort.by(Sort.Direction.DESC, "start", "id");
         Pageable page = PageRequest.of(from / size, size, sortByStartDate);
-        Page<Booking> bookings;
+        List<Booking> bookings;
 
         checkUserExistence(userId);
 
@@ -190,8 +240,66 @@ public class BookingServiceImpl implements BookingService {
         }
 
         log.info("Получен список бронирований владельца вещей с id = {} со статусом {} длиной {}", userId, state,
-                bookings.getContent().size());
-        return BookingMapper.toBookingDto(bookings.getContent());
+                bookings.size());
+        return BookingMapper.toBookingDto(bookings);
+    }
+
+    @Override
+    public List<BookingDto> getBookingsByOwnerId(long userId, SearchingState state, PageCursor after, int size) {
+        Pageable page = PageRequest.of(0, size);
+        LocalDateTime start = after.getRequiredTime();
+        List<Booking> bookings;
+
+        checkUserExistence(userId);
+
+        switch (state) {
+            case ALL:
+                bookings = bookingStorage.findByOwnerIdAfter(userId, start, after.getId(), page);
+                break;
+            case REJECTED:
+                bookings = bookingStorage.findByOwnerIdAndStatusAfter(userId, Status.REJECTED, start, after.getId(),
+                        page);
+                break;
+            case WAITING:
+                bookings = bookingStorage.findByOwnerIdAndStatusAfter(userId, Status.WAITING, start, after.getId(),
+                        page);
+                break;
+            case FUTURE:
+                bookings = bookingStorage.findByOwnerIdAndStartAfterAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            case PAST:
+                bookings = bookingStorage.findByOwnerIdAndEndBeforeAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            case CURRENT:
+                bookings = bookingStorage.findCurrentByOwnerIdAfter(userId, LocalDateTime.now(), start,
+                        after.getId(), page);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(UNKNOWN_SEARCHING_STATE_MESSAGE, state));
+        }
+
+        log.info("Получен список бронирований владельца вещей с id = {} со статусом {} после {} длиной {}", userId,
+                state, after, bookings.size());
+        return BookingMapper.toBookingDto(bookings);
+    }
+
+    private Booking getVisibleBooking(long userId, long bookingId) {
+        Optional<Booking> booking = bookingStorage.findVisibleById(bookingId, userId);
+
+        if (booking.isEmpty()) {
+            if (!bookingStorage.existsById(bookingId)) {
+                log.warn("Выполнена попытка получить бронирование по несуществующему id = {}", bookingId);
+                throw new NotFoundException(String.format(BOOKING_NOT_FOUND_MESSAGE, bookingId));
+            }
+
+            log.warn("Выполнена попытка получить бронирование с id = {} пользователем с id = {}, который не является " +
+                    "автором бронирования или владельцем вещи", bookingId, userId);
+            throw new SecurityException(NOT_BOOKING_OR_ITEM_OWNER_CANNOT_GET_BOOKING_MESSAGE);
+        }
+
+        return booking.get();
     }
 
     private Booking getBookingById(long bookingId) {
@@ -206,24 +314,33 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void checkUserExistence(long userId) {
-        if (!userStorage.existsById(userId)) {
+        if (!userDirectory.exists(userId)) {
             log.warn("Выполнена попытка получить бронирования несуществующего пользователя с id = {}", userId);
             throw new NotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId));
         }
     }
 
+    private int updateWaitingStatus(long userId, long bookingId, Status status) {
+        if (!status.equals(Status.APPROVED)) {
+            return bookingStorage.updateWaitingStatusByOwner(bookingId, userId, status);
+        }
+
+        try {
+            return bookingStorage.approveWaitingByOwner(bookingId, userId);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Выполнена попытка подтвердить бронирование с id = {} одновременно с пересекающимся по времени " +
+                    "бронированием той же вещи", bookingId);
+            throw new AlreadyExistException(String.format(BOOKING_TIME_NOT_AVAILABLE_MESSAGE, bookingId));
+        }
+    }
+
     private void checkTimeCrossings(LocalDateTime bookingStart, LocalDateTime bookingEnd, long itemId) {
-        List<Booking> bookings = bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(itemId,
-                LocalDateTime.now(), Status.APPROVED);
-
-        for (Booking booking : bookings) {
-            if ((bookingStart.isAfter(booking.getStart()) && bookingStart.isBefore(booking.getEnd()))
-                    || (bookingStart.isBefore(booking.getStart()) && bookingEnd.isAfter(booking.getStart()))) {
-                log.warn("Выполнена попытка создать бронирование вещи с id = {}, пересекающееся по времени с уже" +
-                        " подтвержденным бронированием с id = {}", itemId, booking.getId());
-                throw new AlreadyExistException(String.format(TIME_NOT_AVAILABLE_FOR_BOOKING_MESSAGE,
-                        bookingStart.format(FORMATTER), bookingEnd.format(FORMATTER)));
-            }
+        if (bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(itemId, Status.APPROVED, bookingEnd,
+                bookingStart)) {
+            log.warn("Выполнена попытка создать бронирование вещи с id = {}, пересекающееся по времени с уже" +
+                    " подтвержденным бронированием", itemId);
+            throw new AlreadyExistException(String.format(TIME_NOT_AVAILABLE_FOR_BOOKING_MESSAGE,
+                    bookingStart.format(FORMATTER), bookingEnd.format(FORMATTER)));
         }
     }
 }
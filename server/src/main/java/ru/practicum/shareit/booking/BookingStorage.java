@@ -1,43 +1,161 @@
 package ru.practicum.shareit.booking;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.ItemBookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Transactional(readOnly = true)
 public interface BookingStorage extends JpaRepository<Booking, Long> {
-    Page<Booking> findByBooker_Id(Long bookerId, Pageable pageable);
-
-    Page<Booking> findByBooker_IdAndEndBefore(Long bookerId, LocalDateTime time, Pageable pageable);
-
-    Page<Booking> findByBooker_IdAndStartAfter(Long bookerId, LocalDateTime time, Pageable pageable);
-
-    Page<Booking> findByBooker_IdAndStartBeforeAndEndAfter(Long bookerId, LocalDateTime time1, LocalDateTime time2,
+    String AFTER_CURSOR = " and (b.start < :start or (b.start = :start and b.id < :id)) " +
+            "order by b.start desc, b.id desc";
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByBooker_Id(Long bookerId, Pageable pageable);
+
+    @Query("select b from Booking b join fetch b.item i join fetch b.booker " +
+            "where b.id in :ids and (b.booker.id = :userId or i.user.id = :userId) order by b.id")
+    List<Booking> findVisibleByIdIn(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("select b from Booking b join fetch b.item i join fetch b.booker " +
+            "where b.id = :id and (b.booker.id = :userId or i.user.id = :userId)")
+    Optional<Booking> findVisibleById(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update Booking b set b.status = :status where b.id = :id " +
+            "and b.status = ru.practicum.shareit.booking.model.Status.WAITING " +
+            "and b.item.id in (select i.id from Item i where i.user.id = :ownerId)")
+    int updateWaitingStatusByOwner(@Param("id") Long id, @Param("ownerId") Long ownerId,
+                                   @Param("status") Status status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update Booking b set b.status = ru.practicum.shareit.booking.model.Status.APPROVED where b.id = :id " +
+            "and b.status = ru.practicum.shareit.booking.model.Status.WAITING " +
+            "and b.item.id in (select i.id from Item i where i.user.id = :ownerId) " +
+            "and not exists (select ab.id from Booking ab, Booking wb where wb.id = :id and ab.item = wb.item " +
+            "and ab.status = ru.practicum.shareit.booking.model.Status.APPROVED " +
+            "and ab.start < wb.end and ab.end > wb.start)")
+    int approveWaitingByOwner(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByBooker_IdAndEndBefore(Long bookerId, LocalDateTime time, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByBooker_IdAndStartAfter(Long bookerId, LocalDateTime time, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByBooker_IdAndStartBeforeAndEndAfter(Long bookerId, LocalDateTime time1, LocalDateTime time2,
                                                            Pageable pageable);
 
-    Page<Booking> findByBooker_IdAndStatus(Long bookerId, Status status, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByBooker_IdAndStatus(Long bookerId, Status status, Pageable pageable);
 
-    Page<Booking> findByItem_User_Id(Long ownerId, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByItem_User_Id(Long ownerId, Pageable pageable);
 
-    Page<Booking> findByItem_User_IdAndStatus(Long ownerId, Status status, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByItem_User_IdAndStatus(Long ownerId, Status status, Pageable pageable);
 
-    Page<Booking> findByItem_User_IdAndStartAfter(Long ownerId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByItem_User_IdAndStartAfter(Long ownerId, LocalDateTime time, Pageable pageable);
 
-    Page<Booking> findByItem_User_IdAndEndBefore(Long ownerId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByItem_User_IdAndEndBefore(Long ownerId, LocalDateTime time, Pageable pageable);
 
-    Page<Booking> findByItem_User_IdAndStartBeforeAndEndAfter(Long ownerId, LocalDateTime time1,
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    List<Booking> findByItem_User_IdAndStartBeforeAndEndAfter(Long ownerId, LocalDateTime time1,
                                                               LocalDateTime time2, Pageable pageable);
 
-    List<Booking> findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(Long itemId, Long ownerId, Status status);
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.booker.id = :userId" + AFTER_CURSOR)
+    List<Booking> findByBookerIdAfter(@Param("userId") Long bookerId, @Param("start") LocalDateTime start,
+                                      @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.booker.id = :userId and b.end < :time" + AFTER_CURSOR)
+    List<Booking> findByBookerIdAndEndBeforeAfter(@Param("userId") Long bookerId, @Param("time") LocalDateTime time,
+                                                  @Param("start") LocalDateTime start, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.booker.id = :userId and b.start > :time" + AFTER_CURSOR)
+    List<Booking> findByBookerIdAndStartAfterAfter(@Param("userId") Long bookerId, @Param("time") LocalDateTime time,
+                                                   @Param("start") LocalDateTime start, @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.booker.id = :userId and b.start < :time and b.end > :time" +
+            AFTER_CURSOR)
+    List<Booking> findCurrentByBookerIdAfter(@Param("userId") Long bookerId, @Param("time") LocalDateTime time,
+                                             @Param("start") LocalDateTime start, @Param("id") Long id,
+                                             Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.booker.id = :userId and b.status = :status" + AFTER_CURSOR)
+    List<Booking> findByBookerIdAndStatusAfter(@Param("userId") Long bookerId, @Param("status") Status status,
+                                               @Param("start") LocalDateTime start, @Param("id") Long id,
+                                               Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.item.user.id = :userId" + AFTER_CURSOR)
+    List<Booking> findByOwnerIdAfter(@Param("userId") Long ownerId, @Param("start") LocalDateTime start,
+                                     @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.item.user.id = :userId and b.end < :time" + AFTER_CURSOR)
+    List<Booking> findByOwnerIdAndEndBeforeAfter(@Param("userId") Long ownerId, @Param("time") LocalDateTime time,
+                                                 @Param("start") LocalDateTime start, @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.item.user.id = :userId and b.start > :time" + AFTER_CURSOR)
+    List<Booking> findByOwnerIdAndStartAfterAfter(@Param("userId") Long ownerId, @Param("time") LocalDateTime time,
+                                                  @Param("start") LocalDateTime start, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.item.user.id = :userId and b.start < :time and b.end > :time" +
+            AFTER_CURSOR)
+    List<Booking> findCurrentByOwnerIdAfter(@Param("userId") Long ownerId, @Param("time") LocalDateTime time,
+                                            @Param("start") LocalDateTime start, @Param("id") Long id,
+                                            Pageable pageable);
+
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    @Query("select b from Booking b where b.item.user.id = :userId and b.status = :status" + AFTER_CURSOR)
+    List<Booking> findByOwnerIdAndStatusAfter(@Param("userId") Long ownerId, @Param("status") Status status,
+                                              @Param("start") LocalDateTime start, @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.booking.dto.ItemBookingDto(b.item.id, b.id, b.start, b.end, b.status, " +
+            "b.booker.id) from Booking b where b.item.id in :itemIds and b.status = :status and b.start = " +
+            "(select max(lb.start) from Booking lb where lb.item.id = b.item.id and lb.status = :status " +
+            "and lb.start <= :time)")
+    List<ItemBookingDto> findLastBookings(@Param("itemIds") Collection<Long> itemIds, @Param("status") Status status,
+                                          @Param("time") LocalDateTime time);
+
+    @Query("select new ru.practicum.shareit.booking.dto.ItemBookingDto(b.item.id, b.id, b.start, b.end, b.status, " +
+            "b.booker.id) from Booking b where b.item.id in :itemIds and b.status = :status and b.start = " +
+            "(select min(nb.start) from Booking nb where nb.item.id = b.item.id and nb.status = :status " +
+            "and nb.start > :time)")
+    List<ItemBookingDto> findNextBookings(@Param("itemIds") Collection<Long> itemIds, @Param("status") Status status,
+                                          @Param("time") LocalDateTime time);
 
     boolean existsByItem_IdAndBooker_IdAndStatusAndEndBefore(Long itemId, Long userId, Status status, LocalDateTime end);
 
-    List<Booking> findByItem_IdAndEndAfterAndStatusOrderByStartAsc(Long itemIdLong, LocalDateTime end, Status status);
+    boolean existsByItem_IdAndStatusAndStartBeforeAndEndAfter(Long itemId, Status status, LocalDateTime end,
+                                                              LocalDateTime start);
 
 }
@@ -2,13 +2,21 @@ package ru.practicum.shareit.booking.model;
 
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.CompactBookingDto;
+import ru.practicum.shareit.booking.dto.CompactBookingsDto;
+import ru.practicum.shareit.booking.dto.ItemBookingDto;
 import ru.practicum.shareit.booking.dto.SimpleBookingDto;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserMapper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class BookingMapper {
@@ -32,6 +40,28 @@ public class BookingMapper {
                 .collect(Collectors.toList());
     }
 
+    public static CompactBookingsDto toCompactBookingsDto(List<BookingDto> bookings) {
+        Map<Long, UserDto> users = new LinkedHashMap<>();
+        Map<Long, ItemDto> items = new LinkedHashMap<>();
+        List<CompactBookingDto> compactBookings = new ArrayList<>();
+
+        for (BookingDto booking : bookings) {
+            users.putIfAbsent(booking.getBooker().getId(), booking.getBooker());
+            items.putIfAbsent(booking.getItem().getId(), booking.getItem());
+            compactBookings.add(new CompactBookingDto(
+                    booking.getId(),
+                    booking.getStart(),
+                    booking.getEnd(),
+                    booking.getStatus(),
+                    booking.getBooker().getId(),
+                    booking.getItem().getId()
+            ));
+        }
+
+        return new CompactBookingsDto(compactBookings, new ArrayList<>(users.values()),
+                new ArrayList<>(items.values()));
+    }
+
     public static Booking toBooking(BookingCreationDto bookingDto, User user, Item item) {
         return new Booking(
                 Status.WAITING,
@@ -42,17 +72,13 @@ public class BookingMapper {
         );
     }
 
-    public static SimpleBookingDto toSimpleBookingDto(Booking booking) {
-        if (booking == null) {
-            return null;
-        }
-
+    public static SimpleBookingDto toSimpleBookingDto(ItemBookingDto booking) {
         return new SimpleBookingDto(
                 booking.getId(),
                 booking.getStart(),
                 booking.getEnd(),
                 booking.getStatus(),
-                booking.getBooker().getId()
+                booking.getBookerId()
         );
     }
 }
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentStorage extends JpaRepository<Comment, Long> {
@@ -10,4 +12,7 @@ public interface CommentStorage extends JpaRepository<Comment, Long> {
 
     List<Comment> findByItem_IdOrderByIdAsc(Long id);
 
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByItem_IdInOrderByIdAsc(Collection<Long> ids);
+
 }
@@ -2,11 +2,13 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -42,11 +44,27 @@ public class ItemController {
         return itemService.getItem(itemId, userId);
     }
 
+    @PostMapping("/batch")
+    public List<ItemWithBookingDto> getItems(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
+                                             @RequestBody List<Long> itemIds) {
+        log.info("Попытка получить {} вещей по списку id пользователем с id = {}", itemIds.size(), userId);
+        return itemService.getItems(itemIds, userId);
+    }
+
     @GetMapping
-    public List<ItemWithBookingDto> getUsersItems(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
-                                                  @RequestParam int from, @RequestParam int size) {
-        log.info("Попытка получить {} вещей пользователя с id = {} начиная с {} вещи", size, userId, from);
-        return itemService.getUsersItems(userId, from, size);
+    public ResponseEntity<List<ItemWithBookingDto>> getUsersItems(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
+                                                                  @RequestParam(defaultValue = "0") int from,
+                                                                  @RequestParam int size,
+                                                                  @RequestParam(required = false) String after) {
+        List<ItemWithBookingDto> items;
+        if (after == null) {
+            log.info("Попытка получить {} вещей пользователя с id = {} начиная с {} вещи", size, userId, from);
+            items = itemService.getUsersItems(userId, from, size);
+        } else {
+            log.info("Попытка получить {} вещей пользователя с id = {} после {}", size, userId, after);
+            items = itemService.getUsersItems(userId, PageCursor.decode(after), size);
+        }
+        return PageCursor.toResponse(items, size, item -> new PageCursor(item.getId()));
     }
 
     @GetMapping("/search")
@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -13,8 +14,12 @@ public interface ItemService {
 
     ItemWithBookingDto getItem(long itemId, long userId);
 
+    List<ItemWithBookingDto> getItems(List<Long> itemIds, long userId);
+
     List<ItemWithBookingDto> getUsersItems(long userId, int from, int size);
 
+    List<ItemWithBookingDto> getUsersItems(long userId, PageCursor after, int size);
+
     List<ItemDto> searchItems(String text, int from, int size);
 
     CommentDto createComment(CommentDto commentDto, long userId, long itemId);
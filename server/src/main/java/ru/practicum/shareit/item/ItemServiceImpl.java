@@ -2,35 +2,46 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingStorage;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.ItemBookingDto;
+import ru.practicum.shareit.booking.dto.SimpleBookingDto;
+import ru.practicum.shareit.booking.model.BookingMapper;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.exception.AlreadyExistException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.CommentMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.ItemRequestStorage;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.utils.Constants.*;
 
@@ -41,16 +52,19 @@ import static ru.practicum.shareit.utils.Constants.*;
 public class ItemServiceImpl implements ItemService {
     private final ItemStorage itemStorage;
     private final UserStorage userStorage;
+    private final UserDirectory userDirectory;
     private final BookingStorage bookingStorage;
     private final CommentStorage commentStorage;
     private final ItemRequestStorage itemRequestStorage;
+    private final ItemSearchEngine itemSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public ItemDto createItem(long userId, ItemDto itemDto) {
         itemDto.setId(0);
 
-        if (!userStorage.existsById(userId)) {
+        if (!userDirectory.exists(userId)) {
             log.warn("Выполнена попытка использовать несуществующий id пользователя при создании вещи: {}", userId);
             throw new NotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId));
         }
@@ -65,6 +79,7 @@ public class ItemServiceImpl implements ItemService {
         ItemRequest itemRequest = itemDto.getRequestId() == null ? null :
                 itemRequestStorage.getReferenceById(itemDto.getRequestId());
         Item savedItem = itemStorage.save(ItemMapper.toItem(itemDto, userRef, itemRequest));
+        eventPublisher.publishEvent(toItemSavedEvent(savedItem));
         log.info("Создана вещь с id = {} у пользователя с id = {}", savedItem.getId(), userId);
         return ItemMapper.toItemDto(savedItem);
     }
@@ -85,32 +100,42 @@ public class ItemServiceImpl implements ItemService {
             throw new NotFoundException(String.format(USERS_ITEM_NOT_FOUND_MESSAGE, itemDto.getId(), userId));
         }
 
+        boolean searchableFieldsChanged = false;
+
         if (itemDto.getName() != null && !itemDto.getName().isBlank()) {
+            searchableFieldsChanged = !itemDto.getName().equals(currentItem.get().getName());
             currentItem.get().setName(itemDto.getName());
         }
 
         if (itemDto.getDescription() != null && !itemDto.getDescription().isBlank()) {
+            searchableFieldsChanged |= !itemDto.getDescription().equals(currentItem.get().getDescription());
             currentItem.get().setDescription(itemDto.getDescription());
         }
 
         if (itemDto.getAvailable() != null) {
+            searchableFieldsChanged |= !itemDto.getAvailable().equals(currentItem.get().getAvailable());
             currentItem.get().setAvailable(itemDto.getAvailable());
         }
 
+        Item savedItem = itemStorage.save(currentItem.get());
+        if (searchableFieldsChanged) {
+            eventPublisher.publishEvent(toItemSavedEvent(savedItem));
+        }
+
         log.info("Обновлена информация о вещи с id = {} у пользователя с id = {}", itemDto.getId(), userId);
-        return ItemMapper.toItemDto(itemStorage.save(currentItem.get()));
+        return ItemMapper.toItemDto(savedItem);
     }
 
     @Override
     public ItemWithBookingDto getItem(long itemId, long userId) {
-        if (!userStorage.existsById(userId)) {
+        if (!userDirectory.exists(userId)) {
             log.warn("Выполнена попытка получить вещь несуществующим пользователем с id = {}", userId);
             throw new NotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId));
         }
 
         Optional<Item> item = itemStorage.findById(itemId);
-        Booking lastBooking = null;
-        Booking nextBooking = null;
+        SimpleBookingDto lastBooking = null;
+        SimpleBookingDto nextBooking = null;
 
         if (item.isEmpty()) {
             log.warn("Выполнена попытка получить вещь по несуществующему id = {}", itemId);
@@ -118,12 +143,12 @@ public class ItemServiceImpl implements ItemService {
         }
 
         if (item.get().getUser().getId().equals(userId)) {
-            List<Booking> sortedBookings = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(itemId,
-                    userId, Status.APPROVED);
-
-            Booking[] bookings = findLastAndNextBookings(sortedBookings);
-            lastBooking = bookings[0];
-            nextBooking = bookings[1];
+            LocalDateTime currentTime = LocalDateTime.now();
+            List<Long> itemIds = List.of(itemId);
+            lastBooking = findBookingsByItemId(bookingStorage.findLastBookings(itemIds, Status.APPROVED,
+                    currentTime)).get(itemId);
+            nextBooking = findBookingsByItemId(bookingStorage.findNextBookings(itemIds, Status.APPROVED,
+                    currentTime)).get(itemId);
         }
 
         List<Comment> comments = commentStorage.findByItem_IdOrderByIdAsc(itemId);
@@ -132,27 +157,42 @@ public class ItemServiceImpl implements ItemService {
         return ItemMapper.toItemWithBookingDto(item.get(), lastBooking, nextBooking, comments);
     }
 
+    @Override
+    public List<ItemWithBookingDto> getItems(List<Long> itemIds, long userId) {
+        if (!userDirectory.exists(userId)) {
+            log.warn("Выполнена попытка получить список вещей несуществующим пользователем с id = {}", userId);
+            throw new NotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId));
+        }
+
+        if (itemIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Item> items = itemStorage.findByIdInOrderByIdAsc(itemIds);
+        List<Long> ownedItemIds = items.stream()
+                .filter(item -> item.getUser().getId().equals(userId))
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        log.info("Получен список вещей длиной {} по {} запрошенным id", items.size(), itemIds.size());
+        return toItemsWithBookings(items, ownedItemIds);
+    }
+
     @Override
     public List<ItemWithBookingDto> getUsersItems(long userId, int from, int size) {
         Sort sortById = Sort.by(Sort.Direction.ASC, "id");
         Pageable page = PageRequest.of(from / size, size, sortById);
-        Page<Item> items = itemStorage.findByUser_Id(userId, page);
-        List<ItemWithBookingDto> mappedItems = new ArrayList<>();
-
-        for (Item item : items) {
-            List<Booking> sortedBookings = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(
-                    item.getId(), userId, Status.APPROVED);
+        List<Item> items = itemStorage.findByUser_Id(userId, page);
 
-            Booking[] bookings = findLastAndNextBookings(sortedBookings);
-
-            List<Comment> comments = commentStorage.findByItem_IdOrderByIdAsc(item.getId());
-            log.info("Получен список отзывов на вещь с id = {} длиной {}", item.getId(), comments.size());
+        return toItemsWithBookings(userId, items);
+    }
 
-            mappedItems.add(ItemMapper.toItemWithBookingDto(item, bookings[0], bookings[1], comments));
-        }
+    @Override
+    public List<ItemWithBookingDto> getUsersItems(long userId, PageCursor after, int size) {
+        Pageable page = PageRequest.of(0, size);
+        List<Item> items = itemStorage.findByUser_IdAndIdGreaterThanOrderByIdAsc(userId, after.getId(), page);
 
-        log.info("Получен список вещей пользователя с id = {} длиной {}", userId, mappedItems.size());
-        return mappedItems;
+        return toItemsWithBookings(userId, items);
     }
 
     @Override
@@ -162,13 +202,10 @@ public class ItemServiceImpl implements ItemService {
         }
 
         Pageable page = PageRequest.of(from / size, size);
-        Page<Item> searchedItems = itemStorage
-                .findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(text, text,
-                        page);
+        List<Item> searchedItems = itemSearchEngine.search(text, page);
 
-        log.info("Получен список вещей длиной {}, найденный по поисковой строке: {}", searchedItems.getContent().size(),
-                text);
-        return ItemMapper.toItemDto(searchedItems.getContent());
+        log.info("Получен список вещей длиной {}, найденный по поисковой строке: {}", searchedItems.size(), text);
+        return ItemMapper.toItemDto(searchedItems);
     }
 
     @Override
@@ -196,38 +233,61 @@ public class ItemServiceImpl implements ItemService {
         return CommentMapper.toCommentDto(comment);
     }
 
-    private Booking[] findLastAndNextBookings(List<Booking> sortedBookings) {
-        Booking lastBooking = null;
-        Booking nextBooking = null;
-
-        if (!sortedBookings.isEmpty()) {
-            int nextBookingNumber = findNextBookingNumber(sortedBookings, LocalDateTime.now());
+    private ItemSavedEvent toItemSavedEvent(Item item) {
+        SearchableItemDto searchableItem = new SearchableItemDto(item.getId(), item.getName(), item.getDescription(),
+                item.getItemRequest() == null ? null : item.getItemRequest().getId());
+        return new ItemSavedEvent(searchableItem, Boolean.TRUE.equals(item.getAvailable()));
+    }
 
-            if (nextBookingNumber == -1) {
-                lastBooking = sortedBookings.get(sortedBookings.size() - 1);
-            } else if (nextBookingNumber == 0) {
-                nextBooking = sortedBookings.get(nextBookingNumber);
-            } else {
-                nextBooking = sortedBookings.get(nextBookingNumber);
-                lastBooking = sortedBookings.get(nextBookingNumber - 1);
-            }
-        } else {
-            return new Booking[]{null, null};
+    private List<ItemWithBookingDto> toItemsWithBookings(long userId, List<Item> items) {
+        if (items.isEmpty()) {
+            log.info("Получен пустой список вещей пользователя с id = {}", userId);
+            return Collections.emptyList();
         }
 
-        return new Booking[]{lastBooking, nextBooking};
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        List<ItemWithBookingDto> mappedItems = toItemsWithBookings(items, itemIds);
+        log.info("Получены бронирования и отзывы для {} вещей пользователя с id = {}", itemIds.size(), userId);
+        log.info("Получен список вещей пользователя с id = {} длиной {}", userId, mappedItems.size());
+        return mappedItems;
     }
 
-    private int findNextBookingNumber(List<Booking> sortedBookings, LocalDateTime time) {
-        int number = -1;
+    private List<ItemWithBookingDto> toItemsWithBookings(List<Item> items, List<Long> ownedItemIds) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        for (int i = 0; i < sortedBookings.size(); i++) {
-            if (sortedBookings.get(i).getStart().isAfter(time)) {
-                number = i;
-                break;
-            }
+        LocalDateTime currentTime = LocalDateTime.now();
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Map<Long, SimpleBookingDto> lastBookings = Collections.emptyMap();
+        Map<Long, SimpleBookingDto> nextBookings = Collections.emptyMap();
+        if (!ownedItemIds.isEmpty()) {
+            lastBookings = findBookingsByItemId(bookingStorage.findLastBookings(ownedItemIds, Status.APPROVED,
+                    currentTime));
+            nextBookings = findBookingsByItemId(bookingStorage.findNextBookings(ownedItemIds, Status.APPROVED,
+                    currentTime));
         }
+        Map<Long, List<Comment>> commentsByItemId = commentStorage.findByItem_IdInOrderByIdAsc(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+
+        List<ItemWithBookingDto> mappedItems = new ArrayList<>();
+
+        for (Item item : items) {
+            List<Comment> comments = commentsByItemId.getOrDefault(item.getId(), Collections.emptyList());
+
+            mappedItems.add(ItemMapper.toItemWithBookingDto(item, lastBookings.get(item.getId()),
+                    nextBookings.get(item.getId()), comments));
+        }
+        return mappedItems;
+    }
 
-        return number;
+    private Map<Long, SimpleBookingDto> findBookingsByItemId(List<ItemBookingDto> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(ItemBookingDto::getItemId, BookingMapper::toSimpleBookingDto,
+                        BinaryOperator.minBy(Comparator.comparing(SimpleBookingDto::getId))));
     }
 }
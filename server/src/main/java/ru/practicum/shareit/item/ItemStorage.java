@@ -1,23 +1,41 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 @Transactional(readOnly = true)
 public interface ItemStorage extends JpaRepository<Item, Long> {
-    Page<Item> findByUser_Id(Long userId, Pageable pageable);
+    List<Item> findByUser_Id(Long userId, Pageable pageable);
 
-    Page<Item> findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+    List<Item> findByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    List<Item> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    List<Item> findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
             String descriptionSearch, String nameSearch, Pageable pageable);
 
-    boolean existsByUser_IdAndId(Long userId, Long itemId);
+    @Query(value = "select i.id, i.name, i.description, i.available, i.user_id, i.request_id from items i " +
+            "where i.available and (i.search_vector @@ plainto_tsquery('simple', :text) " +
+            "or lower(i.name) like :pattern escape '\\' or lower(i.description) like :pattern escape '\\') " +
+            "order by ts_rank(i.search_vector, plainto_tsquery('simple', :text)) desc, " +
+            "greatest(similarity(lower(i.name), lower(:text)), similarity(lower(i.description), lower(:text))) desc, " +
+            "i.id", nativeQuery = true)
+    List<Item> searchAvailableByText(@Param("text") String text, @Param("pattern") String pattern,
+                                     Pageable pageable);
 
-    List<Item> findByItemRequest_Id(Long id);
+    @Query("select new ru.practicum.shareit.item.dto.SearchableItemDto(i.id, i.name, i.description, " +
+            "i.itemRequest.id) from Item i where i.available = true and i.id > :afterId order by i.id")
+    List<SearchableItemDto> findAvailableForSearch(@Param("afterId") Long afterId, Pageable pageable);
 
+    boolean existsByUser_IdAndId(Long userId, Long itemId);
 
+    List<Item> findByItemRequest_IdIn(Collection<Long> ids);
 }
@@ -1,7 +1,6 @@
 package ru.practicum.shareit.item.model;
 
-import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.BookingMapper;
+import ru.practicum.shareit.booking.dto.SimpleBookingDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -35,16 +34,16 @@ public class ItemMapper {
         );
     }
 
-    public static ItemWithBookingDto toItemWithBookingDto(Item item, Booking lastBooking, Booking nextBooking,
-                                                          List<Comment> comments) {
+    public static ItemWithBookingDto toItemWithBookingDto(Item item, SimpleBookingDto lastBooking,
+                                                          SimpleBookingDto nextBooking, List<Comment> comments) {
         return new ItemWithBookingDto(
                 item.getId(),
                 item.getName(),
                 item.getDescription(),
                 item.getAvailable(),
                 item.getItemRequest() == null ? null : item.getItemRequest().getId(),
-                BookingMapper.toSimpleBookingDto(lastBooking),
-                BookingMapper.toSimpleBookingDto(nextBooking),
+                lastBooking,
+                nextBooking,
                 CommentMapper.toCommentDto(comments)
         );
     }
@@ -0,0 +1,304 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.ItemStorage;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+    private static final int GRAM_LENGTH = 3;
+    private static final int BATCH_SIZE = 1000;
+    private final ItemStorage itemStorage;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private NavigableMap<Long, IndexedItem> items = new TreeMap<>();
+    private Map<String, PostingList> postings = new HashMap<>();
+    private List<ItemSavedEvent> eventsDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NavigableMap<Long, IndexedItem> newItems = new TreeMap<>();
+        Map<String, PostingList> newPostings = new HashMap<>();
+        try {
+            for (SearchableItemDto item : loadAvailableItems()) {
+                addToIndex(newItems, newPostings, new IndexedItem(item));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                eventsDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayedEvents;
+        lock.writeLock().lock();
+        try {
+            replayedEvents = eventsDuringRebuild.size();
+            for (ItemSavedEvent event : eventsDuringRebuild) {
+                applyEvent(newItems, newPostings, event);
+            }
+            eventsDuringRebuild = null;
+            items = newItems;
+            postings = newPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Построен поисковый индекс вещей, проиндексировано вещей: {}, триграмм: {}, применено изменений " +
+                "во время построения: {}", newItems.size(), newPostings.size(), replayedEvents);
+    }
+
+    @TransactionalEventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            applyEvent(items, postings, event);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shareit.search.memory.check-delay:PT10M}",
+            fixedDelayString = "${shareit.search.memory.check-delay:PT10M}")
+    public void checkConsistency() {
+        List<SearchableItemDto> storedItems = loadAvailableItems();
+        int mismatches;
+
+        lock.readLock().lock();
+        try {
+            int matches = 0;
+            for (SearchableItemDto storedItem : storedItems) {
+                IndexedItem indexedItem = items.get(storedItem.getId());
+                if (indexedItem != null && indexedItem.item.equals(storedItem)) {
+                    matches++;
+                }
+            }
+            mismatches = storedItems.size() - matches + items.size() - matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (mismatches > 0) {
+            log.warn("Поисковый индекс вещей расходится с таблицей items на {} записей, индекс будет перестроен",
+                    mismatches);
+            rebuild();
+        } else {
+            log.info("Поисковый индекс вещей согласован с таблицей items, проиндексировано вещей: {}",
+                    storedItems.size());
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, Pageable pageable) {
+        String query = text.toLowerCase();
+        List<Item> result = new ArrayList<>();
+        long skip = pageable.getOffset();
+
+        lock.readLock().lock();
+        try {
+            for (long id : findCandidates(query)) {
+                IndexedItem item = items.get(id);
+                if (!item.contains(query)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                result.add(item.toItem());
+                if (result.size() == pageable.getPageSize()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private long[] findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return items.keySet().stream().mapToLong(Long::longValue).toArray();
+        }
+
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : toGrams(query)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        PostingList smallest = lists.get(0);
+        long[] candidates = new long[smallest.size];
+        int count = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            long id = smallest.ids[i];
+            boolean inAllLists = true;
+            for (int j = 1; j < lists.size() && inAllLists; j++) {
+                inAllLists = lists.get(j).contains(id);
+            }
+            if (inAllLists) {
+                candidates[count++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private void addToIndex(Map<Long, IndexedItem> items, Map<String, PostingList> postings, IndexedItem item) {
+        items.put(item.item.getId(), item);
+        for (String gram : item.grams()) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(item.item.getId());
+        }
+    }
+
+    private void applyEvent(Map<Long, IndexedItem> items, Map<String, PostingList> postings, ItemSavedEvent event) {
+        removeFromIndex(items, postings, event.getItem().getId());
+        if (event.isAvailable()) {
+            addToIndex(items, postings, new IndexedItem(event.getItem()));
+        }
+    }
+
+    private void removeFromIndex(Map<Long, IndexedItem> items, Map<String, PostingList> postings, long id) {
+        IndexedItem item = items.remove(id);
+        if (item == null) {
+            return;
+        }
+        for (String gram : item.grams()) {
+            PostingList list = postings.get(gram);
+            list.remove(id);
+            if (list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private List<SearchableItemDto> loadAvailableItems() {
+        List<SearchableItemDto> result = new ArrayList<>();
+        Pageable page = PageRequest.of(0, BATCH_SIZE);
+        long lastId = 0;
+        List<SearchableItemDto> batch;
+        do {
+            batch = itemStorage.findAvailableForSearch(lastId, page);
+            result.addAll(batch);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+        return result;
+    }
+
+    private static Set<String> toGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static class IndexedItem {
+        private final SearchableItemDto item;
+        private final String name;
+        private final String description;
+
+        private IndexedItem(SearchableItemDto item) {
+            this.item = item;
+            this.name = item.getName().toLowerCase();
+            this.description = item.getDescription().toLowerCase();
+        }
+
+        private boolean contains(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = toGrams(name);
+            grams.addAll(toGrams(description));
+            return grams;
+        }
+
+        private Item toItem() {
+            ItemRequest itemRequest = null;
+            if (item.getRequestId() != null) {
+                itemRequest = new ItemRequest();
+                itemRequest.setId(item.getRequestId());
+            }
+            return new Item(item.getId(), item.getName(), item.getDescription(), true, null, itemRequest);
+        }
+    }
+
+    private static class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+}
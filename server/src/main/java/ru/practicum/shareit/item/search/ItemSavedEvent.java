@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.*;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+public class ItemSavedEvent {
+    private SearchableItemDto item;
+    private boolean available;
+}
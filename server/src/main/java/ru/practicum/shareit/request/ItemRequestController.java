@@ -2,11 +2,13 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.CreateItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -42,9 +44,18 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestWithAnswersDto> getAllRequests(@RequestHeader(HEADER_WITH_USER_ID_NAME) long userId,
-                                                          @RequestParam int from, @RequestParam int size) {
-        log.info("Попытка получить {} запросов начиная с {}", size, from);
-        return itemRequestService.getRequests(userId, from, size);
+    public ResponseEntity<List<ItemRequestWithAnswersDto>> getAllRequests(
+            @RequestHeader(HEADER_WITH_USER_ID_NAME) long userId, @RequestParam(defaultValue = "0") int from,
+            @RequestParam int size, @RequestParam(required = false) String after) {
+        List<ItemRequestWithAnswersDto> requests;
+        if (after == null) {
+            log.info("Попытка получить {} запросов начиная с {}", size, from);
+            requests = itemRequestService.getRequests(userId, from, size);
+        } else {
+            log.info("Попытка получить {} запросов после {}", size, after);
+            requests = itemRequestService.getRequests(userId, PageCursor.decode(after), size);
+        }
+        return PageCursor.toResponse(requests, size, request -> new PageCursor(request.getCreated(),
+                request.getId()));
     }
 }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import ru.practicum.shareit.request.dto.CreateItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.util.List;
 
@@ -14,4 +15,6 @@ public interface ItemRequestService {
     ItemRequestWithAnswersDto getRequestById(long userId, long requestId);
 
     List<ItemRequestWithAnswersDto> getRequests(long userId, int from, int size);
+
+    List<ItemRequestWithAnswersDto> getRequests(long userId, PageCursor after, int size);
 }
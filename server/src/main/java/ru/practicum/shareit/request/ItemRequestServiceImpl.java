@@ -2,7 +2,6 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -15,12 +14,16 @@ import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemRequestMapper;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.utils.PageCursor;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.utils.Constants.REQUEST_NOT_FOUND_MESSAGE;
 import static ru.practicum.shareit.utils.Constants.USER_NOT_FOUND_MESSAGE;
@@ -31,6 +34,7 @@ import static ru.practicum.shareit.utils.Constants.USER_NOT_FOUND_MESSAGE;
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestStorage itemRequestStorage;
     private final UserStorage userStorage;
+    private final UserDirectory userDirectory;
     private final ItemStorage itemStorage;
 
     @Override
@@ -52,11 +56,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 "несуществующим id = {}");
 
         List<ItemRequest> userRequests = itemRequestStorage.findByRequestor_IdOrderByCreatedDesc(userId);
-        List<ItemRequestWithAnswersDto> userRequestsWithAnswers = new ArrayList<>();
-
-        for (ItemRequest request : userRequests) {
-            userRequestsWithAnswers.add(findAnswersForRequest(request));
-        }
+        List<ItemRequestWithAnswersDto> userRequestsWithAnswers = findAnswersForRequests(userRequests);
 
         log.info("Получен список запросов пользователя с id = {} длиной {}", userId, userRequestsWithAnswers.size());
         return userRequestsWithAnswers;
@@ -75,36 +75,60 @@ public class ItemRequestServiceImpl implements ItemRequestService {
             throw new NotFoundException(String.format(REQUEST_NOT_FOUND_MESSAGE, requestId));
         }
 
-        return findAnswersForRequest(request.get());
+        return findAnswersForRequests(List.of(request.get())).get(0);
     }
 
     @Override
     public List<ItemRequestWithAnswersDto> getRequests(long userId, int from, int size) {
         checkUserExistence(userId, "Выполнена попытка получить запросы пользователем с несуществующим id = {}");
 
-        Sort sortByCreation = Sort.by(Sort.Direction.DESC, "created");
+        Sort sortByCreation = Sort.by(Sort.Direction.DESC, "created", "id");
         Pageable page = PageRequest.of(from / size, size, sortByCreation);
-        Page<ItemRequest> itemRequestsPage = itemRequestStorage.findByRequestor_IdNot(userId, page);
+        List<ItemRequest> requests = itemRequestStorage.findByRequestor_IdNot(userId, page);
+
+        List<ItemRequestWithAnswersDto> itemRequests = findAnswersForRequests(requests);
+
+        log.info("Получен список запросов длиной {}", itemRequests.size());
+        return itemRequests;
+    }
+
+    @Override
+    public List<ItemRequestWithAnswersDto> getRequests(long userId, PageCursor after, int size) {
+        checkUserExistence(userId, "Выполнена попытка получить запросы пользователем с несуществующим id = {}");
+
+        Pageable page = PageRequest.of(0, size);
+        List<ItemRequest> requests = itemRequestStorage.findByRequestorIdNotAfter(userId, after.getRequiredTime(),
+                after.getId(), page);
 
-        List<ItemRequestWithAnswersDto> itemRequests = new ArrayList<>();
-        itemRequestsPage.getContent().forEach(itemRequest -> itemRequests.add(findAnswersForRequest(itemRequest)));
+        List<ItemRequestWithAnswersDto> itemRequests = findAnswersForRequests(requests);
 
         log.info("Получен список запросов длиной {}", itemRequests.size());
         return itemRequests;
     }
 
     private void checkUserExistence(long userId, String logMessage) {
-        if (!userStorage.existsById(userId)) {
+        if (!userDirectory.exists(userId)) {
             log.warn(logMessage, userId);
             throw new NotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId));
         }
     }
 
-    private ItemRequestWithAnswersDto findAnswersForRequest(ItemRequest request) {
-        List<Item> itemsForRequest = itemStorage.findByItemRequest_Id(request.getId());
-        log.info("Получен список вещей длиной {} созданных по запросу с id = {}", itemsForRequest.size(),
-                request.getId());
+    private List<ItemRequestWithAnswersDto> findAnswersForRequests(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        return ItemRequestMapper.toItemRequestWithAnswersDto(request, itemsForRequest);
+        List<Long> requestIds = requests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        List<Item> answers = itemStorage.findByItemRequest_IdIn(requestIds);
+        log.info("Получен список вещей длиной {} созданных по запросам с id = {}", answers.size(), requestIds);
+
+        Map<Long, List<Item>> answersByRequestId = answers.stream()
+                .collect(Collectors.groupingBy(item -> item.getItemRequest().getId()));
+        return requests.stream()
+                .map(request -> ItemRequestMapper.toItemRequestWithAnswersDto(request,
+                        answersByRequestId.getOrDefault(request.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 }
@@ -1,14 +1,21 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestStorage extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findByRequestor_IdOrderByCreatedDesc(Long id);
 
-    Page<ItemRequest> findByRequestor_IdNot(Long id, Pageable pageable);
+    List<ItemRequest> findByRequestor_IdNot(Long id, Pageable pageable);
+
+    @Query("select r from ItemRequest r where r.requestor.id <> :userId " +
+            "and (r.created < :created or (r.created = :created and r.id < :id)) order by r.created desc, r.id desc")
+    List<ItemRequest> findByRequestorIdNotAfter(@Param("userId") Long userId, @Param("created") LocalDateTime created,
+                                                @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDirectory {
+    private static final int BATCH_SIZE = 1000;
+    private final UserStorage userStorage;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock loadLock = new ReentrantLock();
+    private BitSet ids = new BitSet();
+    private List<UserExistenceEvent> eventsDuringLoad;
+    private long deletions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${shareit.users.directory.reload-delay:PT10M}",
+            fixedDelayString = "${shareit.users.directory.reload-delay:PT10M}")
+    public void load() {
+        loadLock.lock();
+        try {
+            loadIds();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void loadIds() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BitSet loadedIds = new BitSet();
+        Pageable page = PageRequest.of(0, BATCH_SIZE);
+        long lastId = 0;
+        int count = 0;
+        List<Long> batch;
+        try {
+            do {
+                batch = userStorage.findIdsAfter(lastId, page);
+                for (long id : batch) {
+                    if (isIndexable(id)) {
+                        loadedIds.set((int) id);
+                    }
+                    lastId = id;
+                }
+                count += batch.size();
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                eventsDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (UserExistenceEvent event : eventsDuringLoad) {
+                apply(loadedIds, event);
+            }
+            eventsDuringLoad = null;
+            ids = loadedIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Загружен справочник пользователей, пользователей: {}", count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserExistenceChanged(UserExistenceEvent event) {
+        if (!isIndexable(event.getUserId())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(ids, event);
+            if (!event.isExists()) {
+                deletions++;
+            }
+            if (eventsDuringLoad != null) {
+                eventsDuringLoad.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean exists(long userId) {
+        if (contains(userId)) {
+            return true;
+        }
+
+        long deletionsBeforeCheck = deletions();
+        boolean exists = userStorage.existsById(userId);
+        if (exists) {
+            add(userId, deletionsBeforeCheck);
+        }
+        return exists;
+    }
+
+    private boolean contains(long userId) {
+        if (!isIndexable(userId)) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return ids.get((int) userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long deletions() {
+        lock.readLock().lock();
+        try {
+            return deletions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(long userId, long deletionsBeforeCheck) {
+        if (!isIndexable(userId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (deletions == deletionsBeforeCheck) {
+                ids.set((int) userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(BitSet ids, UserExistenceEvent event) {
+        if (event.isExists()) {
+            ids.set((int) event.getUserId());
+        } else {
+            ids.clear((int) event.getUserId());
+        }
+    }
+
+    private static boolean isIndexable(long userId) {
+        return userId > 0 && userId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class UserDirectoryConfig {
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.user;
+
+import lombok.*;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+public class UserExistenceEvent {
+    private long userId;
+    private boolean exists;
+}
@@ -2,10 +2,10 @@ package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.user.dto.UserDto;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
-    List<UserDto> getAll();
+    void getAll(Consumer<UserDto> consumer);
 
     UserDto createUser(UserDto user);
 
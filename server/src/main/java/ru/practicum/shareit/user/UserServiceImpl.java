@@ -2,12 +2,11 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +16,9 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserMapper;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static ru.practicum.shareit.utils.Constants.USER_ALREADY_EXISTS_MESSAGE;
 import static ru.practicum.shareit.utils.Constants.USER_NOT_FOUND_MESSAGE;
@@ -29,29 +28,27 @@ import static ru.practicum.shareit.utils.Constants.USER_NOT_FOUND_MESSAGE;
 @Slf4j
 public class UserServiceImpl implements UserService {
     private final UserStorage userStorage;
+    private final ApplicationEventPublisher eventPublisher;
     public static final int PAGE_SIZE = 20;
     public static final int START_PAGE = 0;
 
     @Override
-    @Transactional(readOnly = true)
-    public List<UserDto> getAll() {
-        List<UserDto> allUsers = new ArrayList<>();
-
-        Sort sortById = Sort.by(Sort.Direction.ASC, "id");
-        Pageable page = PageRequest.of(START_PAGE, PAGE_SIZE, sortById);
+    public void getAll(Consumer<UserDto> consumer) {
+        Pageable page = PageRequest.of(START_PAGE, PAGE_SIZE);
+        long lastId = 0;
+        int count = 0;
+        List<User> users;
 
         do {
-            Page<User> userPage = userStorage.findAll(page);
-            userPage.getContent().forEach(user -> allUsers.add(UserMapper.toUserDto(user)));
-            if (userPage.hasNext()) {
-                page = PageRequest.of(userPage.getNumber() + 1, userPage.getSize(), userPage.getSort());
-            } else {
-                page = null;
+            users = userStorage.findByIdGreaterThanOrderByIdAsc(lastId, page);
+            for (User user : users) {
+                consumer.accept(UserMapper.toUserDto(user));
+                lastId = user.getId();
             }
-        } while (page != null);
+            count += users.size();
+        } while (users.size() == PAGE_SIZE);
 
-        log.info("Получен список пользователей длиной {}", allUsers.size());
-        return allUsers;
+        log.info("Получен список пользователей длиной {}", count);
     }
 
     @Override
@@ -61,6 +58,7 @@ public class UserServiceImpl implements UserService {
 
         try {
             User savedUser = userStorage.save(UserMapper.toUser(user));
+            eventPublisher.publishEvent(new UserExistenceEvent(savedUser.getId(), true));
             log.info("Создан пользователь с id = {}", savedUser.getId());
             return UserMapper.toUserDto(savedUser);
         } catch (DataIntegrityViolationException e) {
@@ -115,6 +113,7 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(long userId) {
         try {
             userStorage.deleteById(userId);
+            eventPublisher.publishEvent(new UserExistenceEvent(userId, false));
             log.info("Пользователь с id = {} удален", userId);
         } catch (EmptyResultDataAccessException e) {
             log.warn("Выполнена попытка удалить несуществующего пользователя по id = {}", userId);
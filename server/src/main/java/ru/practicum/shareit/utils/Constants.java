@@ -27,5 +27,9 @@ public class Constants {
     public static final String USER_CANNOT_LEAVE_COMMENT_TWICE_MESSAGE = "Нельзя оставить больше одного отзыва на вещь";
     public static final String TIME_NOT_AVAILABLE_FOR_BOOKING_MESSAGE = "Нельзя забронировать вещь с %s по %s, так как " +
             "она уже забронирована на это время";
+    public static final String BOOKING_TIME_NOT_AVAILABLE_MESSAGE = "Нельзя подтвердить бронирование с " +
+            "идентификатором %d, так как вещь уже забронирована на это время";
+    public static final String INVALID_PAGE_CURSOR_MESSAGE = "Некорректный курсор страницы: %s";
     public static final String HEADER_WITH_USER_ID_NAME = "X-Sharer-User-Id";
+    public static final String HEADER_WITH_NEXT_PAGE_CURSOR_NAME = "X-Next-Cursor";
 }
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_NEXT_PAGE_CURSOR_NAME;
+import static ru.practicum.shareit.utils.Constants.INVALID_PAGE_CURSOR_MESSAGE;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+public class PageCursor {
+    private static final char SEPARATOR = '|';
+    private final LocalDateTime time;
+    private final long id;
+
+    public PageCursor(long id) {
+        this(null, id);
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            String time = value.substring(0, separatorIndex);
+            long id = Long.parseLong(value.substring(separatorIndex + 1));
+            return new PageCursor(time.isEmpty() ? null : LocalDateTime.parse(time), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_CURSOR_MESSAGE, token));
+        }
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(List<T> content, int size, Function<T, PageCursor> cursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!content.isEmpty() && content.size() == size) {
+            response.header(HEADER_WITH_NEXT_PAGE_CURSOR_NAME, cursor.apply(content.get(content.size() - 1)).encode());
+        }
+        return response.body(content);
+    }
+
+    public LocalDateTime getRequiredTime() {
+        if (time == null) {
+            throw new IllegalArgumentException(String.format(INVALID_PAGE_CURSOR_MESSAGE, encode()));
+        }
+        return time;
+    }
+
+    public String encode() {
+        String value = (time == null ? "" : time.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+create extension if not exists pg_trgm;
+
+alter table items add column if not exists search_vector tsvector generated always as
+  (setweight(to_tsvector('simple', name), 'A') || setweight(to_tsvector('simple', description), 'B')) stored;
+
+create index if not exists idx_items_search_vector on items using gin (search_vector);
+create index if not exists idx_items_name_trgm on items using gin (lower(name) gin_trgm_ops);
+create index if not exists idx_items_description_trgm on items using gin (lower(description) gin_trgm_ops);
+
+create extension if not exists btree_gist;
+
+do '
+begin
+  if not exists (select 1 from pg_constraint where conname = ''ex_bookings_approved_item_period'') then
+    alter table bookings add constraint ex_bookings_approved_item_period exclude using gist
+      (item_id with =, tsrange(start_date, end_date) with &&) where (status = ''APPROVED'');
+  end if;
+end';
@@ -43,4 +43,10 @@ create table if not exists comments (
   created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
   CONSTRAINT fk_comment_item FOREIGN KEY(item_id) REFERENCES items(id),
   CONSTRAINT fk_comment_user FOREIGN KEY(user_id) REFERENCES users(id)
-);
\ No newline at end of file
+);
+create index if not exists idx_bookings_item_status_start_end on bookings (item_id, status, start_date, end_date);
+create index if not exists idx_items_request_id on items (request_id);
+create index if not exists idx_bookings_booker_start on bookings (user_id, start_date desc, id desc);
+create index if not exists idx_bookings_booker_status_start on bookings (user_id, status, start_date desc, id desc);
+create index if not exists idx_bookings_item_start on bookings (item_id, start_date desc, id desc);
+create index if not exists idx_items_user_id on items (user_id, id);
@@ -0,0 +1,66 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class ResponseCompressionITest {
+    private static final int ITEMS_COUNT = 30;
+    private final UserService userService;
+    private final ItemService itemService;
+    @LocalServerPort
+    private int port;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.createUser(new UserDto(0, "name", "mail@mail.ru")).getId();
+        for (int i = 0; i < ITEMS_COUNT; i++) {
+            itemService.createItem(userId, new ItemDto(0, "Дрель " + i, "Ударная дрель на 100% мощности", true, null));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void getUsersItems_WhenClientAcceptsGzip_ThenCompressResponseWithWeakEtag() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/items?size=" + ITEMS_COUNT))
+                .header(HEADER_WITH_USER_ID_NAME, String.valueOf(userId))
+                .header("Accept-Encoding", "gzip")
+                .build();
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode())
+                .as("Проверка статуса ответа со списком вещей")
+                .isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding"))
+                .as("Проверка сжатия ответа со списком вещей")
+                .hasValue("gzip");
+        assertThat(response.headers().firstValue("ETag"))
+                .as("Проверка слабого ETag у сжатого ответа")
+                .hasValueSatisfying(etag -> assertThat(etag).startsWith("W/\""));
+    }
+}
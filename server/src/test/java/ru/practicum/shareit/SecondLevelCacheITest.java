@@ -0,0 +1,101 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.UserStorage;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@SpringBootTest(properties = "shareit.jpa.second-level-cache=true")
+@AutoConfigureTestDatabase
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SecondLevelCacheITest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final UserStorage userStorage;
+    private final EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUser_WhenUserWasRead_ThenReadFromCache() {
+        UserDto user = userService.createUser(new UserDto(0, "name", "mail@mail.ru"));
+
+        userService.getUser(user.getId());
+        userService.getUser(user.getId());
+
+        assertThat(statistics.getSecondLevelCacheHitCount())
+                .as("Проверка чтения пользователя из кэша второго уровня")
+                .isGreaterThan(0L);
+    }
+
+    @Test
+    void getUser_WhenUserWasUpdated_ThenReturnUpdatedUser() {
+        UserDto user = userService.createUser(new UserDto(0, "name", "mail@mail.ru"));
+        userService.getUser(user.getId());
+
+        userService.updateUser(new UserDto(user.getId(), "newName", "new@mail.ru"));
+
+        assertThat(userService.getUser(user.getId()))
+                .as("Проверка получения обновленного пользователя после изменения")
+                .isEqualTo(new UserDto(user.getId(), "newName", "new@mail.ru"));
+    }
+
+    @Test
+    void getItem_WhenItemWasUpdated_ThenReturnUpdatedItem() {
+        UserDto user = userService.createUser(new UserDto(0, "name", "mail@mail.ru"));
+        ItemDto item = itemService.createItem(user.getId(), new ItemDto(0, "item", "description", true, null));
+        itemService.getItem(item.getId(), user.getId());
+
+        itemService.updateItem(user.getId(), new ItemDto(item.getId(), "newItem", null, false, null));
+
+        assertThat(itemService.getItem(item.getId(), user.getId()).getName())
+                .as("Проверка получения обновленной вещи после изменения")
+                .isEqualTo("newItem");
+    }
+
+    @Test
+    void existsByEmailAndIdNot_WhenCheckedTwice_ThenReadFromQueryCache() {
+        UserDto user = userService.createUser(new UserDto(0, "name", "mail@mail.ru"));
+
+        userStorage.existsByEmailAndIdNot("new@mail.ru", user.getId());
+        userStorage.existsByEmailAndIdNot("new@mail.ru", user.getId());
+
+        assertThat(statistics.getQueryCacheHitCount())
+                .as("Проверка чтения результата проверки почты из кэша запросов")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void existsByEmailAndIdNot_WhenUserWithEmailCreatedAfterCheck_ThenReturnTrue() {
+        UserDto user = userService.createUser(new UserDto(0, "name", "mail@mail.ru"));
+        userStorage.existsByEmailAndIdNot("new@mail.ru", user.getId());
+
+        userService.createUser(new UserDto(0, "newName", "new@mail.ru"));
+
+        assertThat(userStorage.existsByEmailAndIdNot("new@mail.ru", user.getId()))
+                .as("Проверка сброса кэша запросов после создания пользователя с почтой")
+                .isTrue();
+    }
+}
@@ -0,0 +1,180 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class StatementCountITest {
+    private final MockMvc mockMvc;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = userService.createUser(new UserDto(0, "name", "mail@mail.ru")).getId();
+        statistics.clear();
+    }
+
+    @Test
+    void getBookingsByBookerId_WhenPageIsNotFirst_ThenDoNotCountBookings() {
+        assertThat(countStatements("/bookings?state=ALL&from=5&size=5"))
+                .as("Проверка количества запросов при получении бронирований пользователя")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getBookingsByOwnerId_WhenPageIsNotFirst_ThenDoNotCountBookings() {
+        assertThat(countStatements("/bookings/owner?state=ALL&from=5&size=5"))
+                .as("Проверка количества запросов при получении бронирований владельца вещей")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getUsersItems_WhenPageIsNotFirst_ThenDoNotCountItems() {
+        assertThat(countStatements("/items?from=5&size=5"))
+                .as("Проверка количества запросов при получении вещей пользователя")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void searchItems_WhenPageIsNotFirst_ThenDoNotCountItems() {
+        assertThat(countStatements("/items/search?text=item&from=5&size=5"))
+                .as("Проверка количества запросов при поиске вещей")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getAllRequests_WhenPageIsNotFirst_ThenDoNotCountRequests() {
+        assertThat(countStatements("/requests/all?from=5&size=5"))
+                .as("Проверка количества запросов при получении запросов других пользователей")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getBookingsByOwnerId_WhenBookingsHaveDifferentItemsAndBookers_ThenLoadThemInOneStatement() {
+        for (int i = 1; i <= 3; i++) {
+            long itemId = itemService.createItem(userId, new ItemDto(0, "item" + i, "description" + i, true,
+                    null)).getId();
+            long bookerId = userService.createUser(new UserDto(0, "booker" + i, "booker" + i + "@mail.ru")).getId();
+            createBooking(itemId, bookerId, i);
+        }
+        statistics.clear();
+
+        assertThat(countStatements("/bookings/owner?state=ALL&from=0&size=20"))
+                .as("Проверка количества запросов при получении бронирований разных вещей владельца")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void getBookingsByBookerId_WhenBookingsHaveDifferentItems_ThenLoadThemInOneStatement() {
+        for (int i = 1; i <= 3; i++) {
+            long ownerId = userService.createUser(new UserDto(0, "owner" + i, "owner" + i + "@mail.ru")).getId();
+            long itemId = itemService.createItem(ownerId, new ItemDto(0, "item" + i, "description" + i, true,
+                    null)).getId();
+            createBooking(itemId, userId, i);
+        }
+        statistics.clear();
+
+        assertThat(countStatements("/bookings?state=ALL&from=0&size=20"))
+                .as("Проверка количества запросов при получении бронирований разных вещей пользователя")
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void setBookingStatus_WhenUserIsNotItemOwner_ThenDoNotLoadBooker() {
+        long ownerId = userService.createUser(new UserDto(0, "owner", "owner@mail.ru")).getId();
+        long itemId = itemService.createItem(ownerId, new ItemDto(0, "item", "description", true, null)).getId();
+        long bookingId = createBooking(itemId, userId, 1);
+        statistics.clear();
+
+        assertThatExceptionOfType(SecurityException.class)
+                .as("Проверка изменения статуса бронирования пользователем, который не является владельцем вещи")
+                .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, true));
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Проверка количества запросов при неудачном изменении статуса бронирования")
+                .isEqualTo(3L);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount())
+                .as("Проверка количества загруженных пользователей при неудачном изменении статуса бронирования")
+                .isZero();
+    }
+
+    @Test
+    void setBookingStatus_WhenOwnerApprovesBooking_ThenUpdateAndLoadBookingOnce() {
+        long bookerId = userService.createUser(new UserDto(0, "booker", "booker@mail.ru")).getId();
+        long itemId = itemService.createItem(userId, new ItemDto(0, "item", "description", true, null)).getId();
+        long bookingId = createBooking(itemId, bookerId, 1);
+        statistics.clear();
+
+        bookingService.setBookingStatus(userId, bookingId, true);
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Проверка количества запросов при подтверждении бронирования")
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void getBookingsByOwnerId_WhenBookersAreRendered_ThenLoadEachBookerOnce() {
+        long itemId = itemService.createItem(userId, new ItemDto(0, "item", "description", true, null)).getId();
+        long bookerId = userService.createUser(new UserDto(0, "booker", "booker@mail.ru")).getId();
+        for (int i = 1; i <= 3; i++) {
+            createBooking(itemId, bookerId, i);
+        }
+        statistics.clear();
+
+        assertThat(countStatements("/bookings/owner?state=ALL&from=0&size=20"))
+                .as("Проверка количества запросов при получении бронирований одного автора")
+                .isEqualTo(1L);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount())
+                .as("Проверка количества загруженных пользователей при получении бронирований одного автора")
+                .isEqualTo(1L);
+    }
+
+    private long createBooking(long itemId, long bookerId, int daysFromNow) {
+        LocalDateTime start = LocalDateTime.now().plusDays(daysFromNow);
+        return bookingService.createBooking(new BookingCreationDto(itemId, start, start.plusHours(1)), bookerId)
+                .getId();
+    }
+
+    @SneakyThrows
+    private long countStatements(String url) {
+        mockMvc.perform(get(url)
+                        .header(HEADER_WITH_USER_ID_NAME, userId))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+
+class VirtualThreadsConfigTest {
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int BLOCKING_TASKS_COUNT = 2000;
+    private static final long BLOCKING_MILLIS = 100;
+
+    @SneakyThrows
+    @Test
+    void newVirtualThreadPerTaskExecutor_WhenJavaSupportsVirtualThreads_ThenRunTasksInVirtualThreads() {
+        if (Runtime.version().feature() < VIRTUAL_THREADS_JAVA_VERSION) {
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .as("Проверка ошибки при включении виртуальных потоков на старой версии Java")
+                    .isThrownBy(VirtualThreadsConfig::newVirtualThreadPerTaskExecutor);
+            return;
+        }
+
+        ExecutorService executor = VirtualThreadsConfig.newVirtualThreadPerTaskExecutor();
+        Future<Object> isVirtual = executor.submit(() -> Thread.class.getMethod("isVirtual")
+                .invoke(Thread.currentThread()));
+
+        assertThat(isVirtual.get())
+                .as("Проверка выполнения задачи в виртуальном потоке")
+                .isEqualTo(true);
+        executor.shutdown();
+    }
+
+    @SneakyThrows
+    @Test
+    void newVirtualThreadPerTaskExecutor_WhenTasksBlock_ThenCompleteFasterThanTomcatThreadPool() {
+        if (Runtime.version().feature() < VIRTUAL_THREADS_JAVA_VERSION) {
+            return;
+        }
+
+        long platformNanos = runBlockingTasks(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+        long virtualNanos = runBlockingTasks(VirtualThreadsConfig.newVirtualThreadPerTaskExecutor());
+
+        assertThat(virtualNanos)
+                .as("Проверка пропускной способности виртуальных потоков на блокирующих задачах: %d мс против %d мс",
+                        TimeUnit.NANOSECONDS.toMillis(virtualNanos), TimeUnit.NANOSECONDS.toMillis(platformNanos))
+                .isLessThan(platformNanos / 2);
+    }
+
+    @SneakyThrows
+    private long runBlockingTasks(ExecutorService executor) {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < BLOCKING_TASKS_COUNT; i++) {
+            tasks.add(() -> {
+                Thread.sleep(BLOCKING_MILLIS);
+                return null;
+            });
+        }
+        long start = System.nanoTime();
+        for (Future<Object> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -12,10 +12,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.CompactBookingDto;
+import ru.practicum.shareit.booking.dto.CompactBookingsDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,7 +27,9 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_NEXT_PAGE_CURSOR_NAME;
 import static ru.practicum.shareit.utils.Constants.HEADER_WITH_USER_ID_NAME;
 
 @WebMvcTest(BookingController.class)
@@ -163,4 +168,79 @@ class BookingControllerITest {
                 1, 5);
         Mockito.verifyNoMoreInteractions(bookingService);
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    @Test
+    void getBookingsByOwnerId_WhenCompactViewRequested_ThenReturnSideTables() {
+        UserDto booker = new UserDto(2, "booker", "booker@mail.ru");
+        ItemDto item = new ItemDto(1, "name", "description", true, null);
+        LocalDateTime start = LocalDateTime.of(2023, 3, 1, 12, 0);
+        List<BookingDto> output = List.of(
+                new BookingDto(2L, start.plusDays(1), start.plusDays(2), Status.WAITING, booker, item),
+                new BookingDto(1L, start, start.plusDays(1), Status.APPROVED, booker, item));
+        when(bookingService.getBookingsByOwnerId(1, SearchingState.ALL, 0, 5)).thenReturn(output);
+
+        String actualOutput = mockMvc.perform(get("/bookings/owner")
+                        .header(HEADER_WITH_USER_ID_NAME, 1)
+                        .param("state", SearchingState.ALL.toString())
+                        .param("size", "5")
+                        .param("compact", "true"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        CompactBookingsDto expected = new CompactBookingsDto(List.of(
+                new CompactBookingDto(2L, start.plusDays(1), start.plusDays(2), Status.WAITING, 2L, 1L),
+                new CompactBookingDto(1L, start, start.plusDays(1), Status.APPROVED, 2L, 1L)),
+                List.of(booker), List.of(item));
+        assertThat(actualOutput)
+                .as("Проверка возвращаемого значения при получении бронирований в компактном виде")
+                .isNotNull()
+                .isEqualTo(objectMapper.writeValueAsString(expected));
+        verify(bookingService, Mockito.times(1)).getBookingsByOwnerId(1, SearchingState.ALL, 0, 5);
+        Mockito.verifyNoMoreInteractions(bookingService);
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookingsByBookerId_WhenCursorExists_ThenReturnNextCursor() {
+        PageCursor after = new PageCursor(LocalDateTime.of(2023, 4, 1, 12, 0), 10);
+        BookingDto booking = new BookingDto(9L, LocalDateTime.of(2023, 3, 1, 12, 0),
+                LocalDateTime.of(2023, 3, 2, 12, 0), Status.WAITING, new UserDto(1, "name", "mail@mail.ru"),
+                new ItemDto(1, "name", "description", true, null));
+        when(bookingService.getBookingsByBookerId(1, SearchingState.ALL, after, 1)).thenReturn(List.of(booking));
+
+        String actualOutput = mockMvc.perform(get("/bookings")
+                        .header(HEADER_WITH_USER_ID_NAME, 1)
+                        .param("state", SearchingState.ALL.toString())
+                        .param("after", after.encode())
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HEADER_WITH_NEXT_PAGE_CURSOR_NAME,
+                        new PageCursor(booking.getStart(), booking.getId()).encode()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(actualOutput)
+                .as("Проверка возвращаемого значения при получении бронирований пользователя после курсора")
+                .isNotNull()
+                .isEqualTo(objectMapper.writeValueAsString(List.of(booking)));
+        verify(bookingService, Mockito.times(1)).getBookingsByBookerId(1, SearchingState.ALL, after, 1);
+        Mockito.verifyNoMoreInteractions(bookingService);
+    }
+
+    @SneakyThrows
+    @Test
+    void getBookingsByBookerId_WhenCursorIsInvalid_ThenReturnBadRequest() {
+        mockMvc.perform(get("/bookings")
+                        .header(HEADER_WITH_USER_ID_NAME, 1)
+                        .param("state", SearchingState.ALL.toString())
+                        .param("after", "!!!")
+                        .param("size", "1"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(bookingService);
+    }
+}
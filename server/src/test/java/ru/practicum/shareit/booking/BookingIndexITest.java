@@ -0,0 +1,131 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("dev")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingIndexITest {
+    private static final int USERS_COUNT = 20;
+    private static final int ITEMS_COUNT = 200;
+    private static final int BOOKINGS_COUNT = 2000;
+    private static final String NOW = "timestamp '2023-06-01 12:00:00'";
+    private static final String BOOKER_BOOKINGS = "select b.* from bookings b where b.user_id = 3";
+    private static final String OWNER_BOOKINGS = "select b.* from bookings b join items i on i.id = b.item_id " +
+            "where i.user_id = 3";
+    private static final String ORDER = " order by b.start_date desc, b.id desc limit 20";
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+    private final JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS_COUNT; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@mail.ru"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        for (long id = 1; id <= ITEMS_COUNT; id++) {
+            items.add(new Object[]{id, "item" + id, "description" + id, id % USERS_COUNT + 1});
+        }
+        jdbcTemplate.batchUpdate("insert into items (id, name, description, available, user_id) " +
+                "values (?, ?, ?, true, ?)", items);
+
+        List<Object[]> bookings = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 12, 0);
+        String[] statuses = {"WAITING", "APPROVED", "REJECTED", "CANCELED"};
+        for (long id = 1; id <= BOOKINGS_COUNT; id++) {
+            LocalDateTime bookingStart = start.plusHours(id * 3);
+            bookings.add(new Object[]{id, statuses[(int) (id % statuses.length)], id % ITEMS_COUNT + 1,
+                    id % USERS_COUNT + 1, Timestamp.valueOf(bookingStart),
+                    Timestamp.valueOf(bookingStart.plusDays(1))});
+        }
+        jdbcTemplate.batchUpdate("insert into bookings (id, status, item_id, user_id, start_date, end_date) " +
+                "values (?, ?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void explain_WhenBookerBookingsRequested_ThenUseBookerIndexes() {
+        assertIndex(BOOKER_BOOKINGS + ORDER, "idx_bookings_booker_start");
+        assertIndex(BOOKER_BOOKINGS + " and b.end_date < " + NOW + ORDER, "idx_bookings_booker_start");
+        assertIndex(BOOKER_BOOKINGS + " and b.start_date > " + NOW + ORDER, "idx_bookings_booker_start");
+        assertIndex(BOOKER_BOOKINGS + " and b.start_date < " + NOW + " and b.end_date > " + NOW + ORDER,
+                "idx_bookings_booker_start");
+        assertIndex(BOOKER_BOOKINGS + " and b.status = 'WAITING'" + ORDER, "idx_bookings_booker_status_start");
+    }
+
+    @Test
+    void explain_WhenOwnerBookingsRequestedByStatus_ThenUseItemStatusIndex() {
+        assertIndex(OWNER_BOOKINGS + " and b.status = 'REJECTED'" + ORDER, "idx_bookings_item_status_start_end");
+    }
+
+    @Test
+    void explain_WhenItemBookingsRequested_ThenUseItemIndexes() {
+        assertIndex("select b.* from bookings b where b.item_id = 5 and b.status = 'APPROVED' " +
+                "and b.start_date < " + NOW + " and b.end_date > " + NOW, "idx_bookings_item_status_start_end");
+        assertIndex("select i.* from items i where i.user_id = 3 order by i.id limit 20", "idx_items_user_id");
+    }
+
+    private void assertIndex(String sql, String index) {
+        String plan = explain(sql);
+        assertThat(plan)
+                .as("Проверка использования индекса %s в плане запроса: %s", index, plan)
+                .contains(index);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                    }
+                } finally {
+                    statement.execute("reset enable_seqscan");
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
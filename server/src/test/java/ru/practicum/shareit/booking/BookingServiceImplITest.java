@@ -10,10 +10,13 @@ import org.springframework.test.context.jdbc.Sql;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.AlreadyExistException;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.utils.PageCursor;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -21,6 +24,7 @@ import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
@@ -30,6 +34,70 @@ class BookingServiceImplITest {
     private final UserService userService;
     private final ItemService itemService;
 
+    @Test
+    @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getBookings_WhenBookingsRequestedById_ThenReturnOnlyVisibleBookings() {
+        UserDto user1 = userService.createUser(new UserDto(0, "user1", "user1@mail.ru"));
+        UserDto user2 = userService.createUser(new UserDto(0, "user2", "user2@mail.ru"));
+        UserDto user3 = userService.createUser(new UserDto(0, "user3", "user3@mail.ru"));
+        ItemDto item1 = itemService.createItem(user1.getId(), new ItemDto(0, "item1",
+                "item1 of user1", true, null));
+        ItemDto item2 = itemService.createItem(user3.getId(), new ItemDto(0, "item2",
+                "item2 of user3", true, null));
+        BookingDto bookingDto1 = bookingService.createBooking(new BookingCreationDto(item1.getId(),
+                LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS),
+                LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.MILLIS)), user2.getId());
+        BookingDto bookingDto2 = bookingService.createBooking(new BookingCreationDto(item2.getId(),
+                LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS),
+                LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.MILLIS)), user2.getId());
+
+        assertThatCode(() -> {
+            List<BookingDto> bookings = bookingService.getBookings(user1.getId(),
+                    List.of(bookingDto1.getId(), bookingDto2.getId(), bookingDto2.getId() + 1));
+            assertThat(bookings)
+                    .as("Проверка получения только бронирований вещей владельца")
+                    .isNotNull()
+                    .asList()
+                    .hasSize(1)
+                    .contains(bookingDto1, Index.atIndex(0));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<BookingDto> bookings = bookingService.getBookings(user2.getId(),
+                    List.of(bookingDto2.getId(), bookingDto1.getId()));
+            assertThat(bookings)
+                    .as("Проверка получения всех бронирований автора бронирований")
+                    .isNotNull()
+                    .asList()
+                    .hasSize(2)
+                    .contains(bookingDto1, Index.atIndex(0))
+                    .contains(bookingDto2, Index.atIndex(1));
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void setBookingStatus_WhenOverlappingBookingAlreadyApproved_ThenThrowsAlreadyExistException() {
+        UserDto owner = userService.createUser(new UserDto(0, "user1", "user1@mail.ru"));
+        UserDto booker1 = userService.createUser(new UserDto(0, "user2", "user2@mail.ru"));
+        UserDto booker2 = userService.createUser(new UserDto(0, "user3", "user3@mail.ru"));
+        ItemDto item = itemService.createItem(owner.getId(), new ItemDto(0, "item1",
+                "item1 of user1", true, null));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS);
+        BookingDto bookingDto1 = bookingService.createBooking(new BookingCreationDto(item.getId(), start,
+                start.plusDays(2)), booker1.getId());
+        BookingDto bookingDto2 = bookingService.createBooking(new BookingCreationDto(item.getId(),
+                start.plusDays(1), start.plusDays(3)), booker2.getId());
+        bookingService.setBookingStatus(owner.getId(), bookingDto1.getId(), true);
+
+        assertThatExceptionOfType(AlreadyExistException.class)
+                .as("Проверка подтверждения бронирования, пересекающегося с уже подтвержденным")
+                .isThrownBy(() -> bookingService.setBookingStatus(owner.getId(), bookingDto2.getId(), true));
+        assertThat(bookingService.getBooking(owner.getId(), bookingDto2.getId()).getStatus())
+                .as("Проверка статуса бронирования после неудачного подтверждения")
+                .isEqualTo(Status.WAITING);
+    }
+
     @Test
     @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void getBookingsByBookerId_WhenALLSearchingState_ThenReturnAllBookings() {
@@ -592,4 +660,41 @@ class BookingServiceImplITest {
                     .contains(expectedBookingDto2, Index.atIndex(1));
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getBookingsByBookerId_WhenCursorPassed_ThenReturnBookingsAfterCursor() {
+        UserDto user1 = userService.createUser(new UserDto(0, "user1", "user1@mail.ru"));
+        UserDto user2 = userService.createUser(new UserDto(0, "user2", "user2@mail.ru"));
+        ItemDto item1 = itemService.createItem(user1.getId(), new ItemDto(0, "item1",
+                "item1 of user1", true, null));
+        ItemDto item2 = itemService.createItem(user1.getId(), new ItemDto(0, "item2",
+                "item2 of user1", true, null));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS);
+        BookingDto bookingDto1 = bookingService.createBooking(new BookingCreationDto(item1.getId(), start,
+                start.plusDays(1)), user2.getId());
+        BookingDto bookingDto2 = bookingService.createBooking(new BookingCreationDto(item2.getId(), start,
+                start.plusDays(1)), user2.getId());
+        BookingDto bookingDto3 = bookingService.createBooking(new BookingCreationDto(item1.getId(),
+                start.plusDays(2), start.plusDays(3)), user2.getId());
+
+        assertThatCode(() -> {
+            List<BookingDto> firstPage = bookingService.getBookingsByBookerId(user2.getId(), SearchingState.ALL,
+                    0, 2);
+            BookingDto lastBooking = firstPage.get(firstPage.size() - 1);
+            List<BookingDto> secondPage = bookingService.getBookingsByBookerId(user2.getId(), SearchingState.ALL,
+                    new PageCursor(lastBooking.getStart(), lastBooking.getId()), 2);
+            assertThat(firstPage)
+                    .as("Проверка получения первой страницы бронирований")
+                    .asList()
+                    .hasSize(2)
+                    .contains(bookingDto3, Index.atIndex(0))
+                    .contains(bookingDto2, Index.atIndex(1));
+            assertThat(secondPage)
+                    .as("Проверка получения бронирований после курсора с таким же временем начала")
+                    .asList()
+                    .hasSize(1)
+                    .contains(bookingDto1, Index.atIndex(0));
+        }).doesNotThrowAnyException();
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.SearchingState;
@@ -15,6 +16,7 @@ import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemStorage;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -22,7 +24,6 @@ import ru.practicum.shareit.utils.Constants;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
@@ -36,6 +37,8 @@ class BookingServiceImplTest {
     private ItemStorage itemStorage;
     @Mock
     private UserStorage userStorage;
+    @Mock
+    private UserDirectory userDirectory;
     @InjectMocks
     private BookingServiceImpl bookingService;
     @Captor
@@ -121,12 +124,10 @@ class BookingServiceImplTest {
         User user = new User(userId, "name", "mail@mail.ru");
         Item item = new Item(bookingCreationDto.getItemId(), "name", "description", true,
                 new User(userId + 1), null);
-        Booking booking = new Booking(1L, Status.APPROVED, item, new User(userId + 1),
-                LocalDateTime.now().plusHours(2), LocalDateTime.now().plusHours(7));
         when(userStorage.findById(userId)).thenReturn(Optional.of(user));
         when(itemStorage.findById(bookingCreationDto.getItemId())).thenReturn(Optional.of(item));
-        when(bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(anyLong(), any(LocalDateTime.class),
-                any(Status.class))).thenReturn(List.of(booking));
+        when(bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(), Status.APPROVED,
+                bookingCreationDto.getEnd(), bookingCreationDto.getStart())).thenReturn(true);
 
         assertThatExceptionOfType(AlreadyExistException.class)
                 .as("Проверка добавления бронирования на вещь, когда время этого бронирования пересекается " +
@@ -136,8 +137,8 @@ class BookingServiceImplTest {
                         bookingCreationDto.getStart().format(BookingServiceImpl.FORMATTER),
                         bookingCreationDto.getEnd().format(BookingServiceImpl.FORMATTER));
 
-        verify(bookingStorage, Mockito.times(1)).findByItem_IdAndEndAfterAndStatusOrderByStartAsc(
-                anyLong(), any(LocalDateTime.class), any(Status.class));
+        verify(bookingStorage, Mockito.times(1)).existsByItem_IdAndStatusAndStartBeforeAndEndAfter(
+                item.getId(), Status.APPROVED, bookingCreationDto.getEnd(), bookingCreationDto.getStart());
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -150,13 +151,11 @@ class BookingServiceImplTest {
         User user = new User(userId, "name", "mail@mail.ru");
         Item item = new Item(bookingCreationDto.getItemId(), "name", "description", true,
                 new User(userId + 1), null);
-        Booking existedBooking = new Booking(1L, Status.APPROVED, item, new User(userId + 1),
-                LocalDateTime.now().plusHours(4), LocalDateTime.now().plusHours(7));
         Booking createdBooking = new Booking(2L, Status.WAITING, item, user, start, end);
         when(userStorage.findById(userId)).thenReturn(Optional.of(user));
         when(itemStorage.findById(bookingCreationDto.getItemId())).thenReturn(Optional.of(item));
-        when(bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(anyLong(), any(LocalDateTime.class),
-                any(Status.class))).thenReturn(List.of(existedBooking));
+        when(bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(), Status.APPROVED, end,
+                start)).thenReturn(false);
         when(bookingStorage.save(any(Booking.class))).thenReturn(createdBooking);
         BookingDto expectedDto = new BookingDto(2L, start, end, Status.WAITING, new UserDto(userId,
                 "name", "mail@mail.ru"), new ItemDto(bookingCreationDto.getItemId(), "name", "description",
@@ -189,6 +188,7 @@ class BookingServiceImplTest {
         long userId = 1;
         long bookingId = 1;
         boolean approved = true;
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId)).thenReturn(0);
         when(bookingStorage.findById(bookingId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
@@ -196,7 +196,9 @@ class BookingServiceImplTest {
                 .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, approved))
                 .withMessage(String.format(Constants.BOOKING_NOT_FOUND_MESSAGE, bookingId));
 
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
         verify(bookingStorage, Mockito.times(1)).findById(bookingId);
+        verifyNoInteractions(itemStorage);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -210,16 +212,17 @@ class BookingServiceImplTest {
                 null);
         Booking booking = new Booking(1L, Status.WAITING, item, user, LocalDateTime.now().plusHours(4),
                 LocalDateTime.now().plusHours(7));
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId)).thenReturn(0);
         when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemStorage.existsByUser_IdAndId(userId, item.getId())).thenReturn(false);
 
         assertThatExceptionOfType(SecurityException.class)
                 .as("Проверка изменения статуса бронирования пользователем, который не является владельцем вещи")
                 .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, approved))
                 .withMessage(Constants.NOT_OWNER_CANNOT_CHANGE_BOOKING_STATUS_MESSAGE);
 
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
         verify(bookingStorage, Mockito.times(1)).findById(bookingId);
-        verify(itemStorage, Mockito.times(1)).existsByUser_IdAndId(userId, item.getId());
+        verifyNoInteractions(itemStorage);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -233,16 +236,17 @@ class BookingServiceImplTest {
                 null);
         Booking booking = new Booking(1L, Status.APPROVED, item, user, LocalDateTime.now().plusHours(4),
                 LocalDateTime.now().plusHours(7));
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId)).thenReturn(0);
         when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemStorage.existsByUser_IdAndId(userId, item.getId())).thenReturn(true);
 
         assertThatExceptionOfType(IllegalArgumentException.class)
                 .as("Проверка изменения статуса бронирования, когда статус бронирования уже был изменен")
                 .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, approved))
                 .withMessage(Constants.USER_CANNOT_CHANGE_BOOKING_STATUS_TWICE_MESSAGE);
 
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
         verify(bookingStorage, Mockito.times(1)).findById(bookingId);
-        verify(itemStorage, Mockito.times(1)).existsByUser_IdAndId(userId, item.getId());
+        verifyNoInteractions(itemStorage);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -256,14 +260,12 @@ class BookingServiceImplTest {
                 null);
         LocalDateTime start = LocalDateTime.now().plusHours(4).truncatedTo(ChronoUnit.MILLIS);
         LocalDateTime end = LocalDateTime.now().plusHours(7).truncatedTo(ChronoUnit.MILLIS);
-        Booking booking = new Booking(1L, Status.WAITING, item, user, start, end);
         Booking updatedBooking = new Booking(1L, Status.APPROVED, item, user, start, end);
         BookingDto expectedDto = new BookingDto(1L, start, end, Status.APPROVED,
                 new UserDto(userId, "name", "mail@mail.ru"), new ItemDto(1L, "name",
                 "description", true, null));
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemStorage.existsByUser_IdAndId(userId, item.getId())).thenReturn(true);
-        when(bookingStorage.save(any(Booking.class))).thenReturn(updatedBooking);
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId)).thenReturn(1);
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.of(updatedBooking));
 
         assertThatCode(() -> {
             BookingDto bookingDto = bookingService.setBookingStatus(userId, bookingId, approved);
@@ -274,18 +276,52 @@ class BookingServiceImplTest {
                     .isEqualTo(expectedDto);
         }).doesNotThrowAnyException();
 
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
+        verifyNoInteractions(itemStorage);
+        verifyNoMoreInteractions(bookingStorage);
+    }
+
+    @Test
+    void setBookingStatus_WhenApprovedBookingHasTimeCrossings_ThenThrowsAlreadyExistException() {
+        long userId = 1;
+        long bookingId = 1;
+        boolean approved = true;
+        User user = new User(userId + 1, "name", "mail@mail.ru");
+        Item item = new Item(1L, "name", "description", true, new User(userId),
+                null);
+        LocalDateTime start = LocalDateTime.now().plusHours(4);
+        LocalDateTime end = LocalDateTime.now().plusHours(7);
+        Booking booking = new Booking(1L, Status.WAITING, item, user, start, end);
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId)).thenReturn(0);
+        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
+
+        assertThatExceptionOfType(AlreadyExistException.class)
+                .as("Проверка подтверждения бронирования, пересекающегося по времени с уже подтвержденным")
+                .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, approved))
+                .withMessage(String.format(Constants.TIME_NOT_AVAILABLE_FOR_BOOKING_MESSAGE,
+                        start.format(BookingServiceImpl.FORMATTER), end.format(BookingServiceImpl.FORMATTER)));
+
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
         verify(bookingStorage, Mockito.times(1)).findById(bookingId);
-        verify(itemStorage, Mockito.times(1)).existsByUser_IdAndId(userId, item.getId());
-        verify(bookingStorage, Mockito.times(1)).save(argumentCaptor.capture());
-        assertThat(argumentCaptor.getValue())
-                .as("Проверка передаваемого аргумента в метод изменения статуса бронирования")
-                .isNotNull()
-                .hasFieldOrPropertyWithValue("id", updatedBooking.getId())
-                .hasFieldOrPropertyWithValue("status", updatedBooking.getStatus())
-                .hasFieldOrPropertyWithValue("item", updatedBooking.getItem())
-                .hasFieldOrPropertyWithValue("booker", updatedBooking.getBooker())
-                .hasFieldOrPropertyWithValue("start", updatedBooking.getStart())
-                .hasFieldOrPropertyWithValue("end", updatedBooking.getEnd());
+        verifyNoMoreInteractions(bookingStorage);
+    }
+
+    @Test
+    void setBookingStatus_WhenOverlappingBookingIsApprovedConcurrently_ThenThrowsAlreadyExistException() {
+        long userId = 1;
+        long bookingId = 1;
+        boolean approved = true;
+        when(bookingStorage.approveWaitingByOwner(bookingId, userId))
+                .thenThrow(new DataIntegrityViolationException("ex_bookings_approved_period"));
+
+        assertThatExceptionOfType(AlreadyExistException.class)
+                .as("Проверка одновременного подтверждения пересекающихся по времени бронирований")
+                .isThrownBy(() -> bookingService.setBookingStatus(userId, bookingId, approved))
+                .withMessage(String.format(Constants.BOOKING_TIME_NOT_AVAILABLE_MESSAGE, bookingId));
+
+        verify(bookingStorage, Mockito.times(1)).approveWaitingByOwner(bookingId, userId);
+        verifyNoMoreInteractions(bookingStorage);
     }
 
     @Test
@@ -298,14 +334,12 @@ class BookingServiceImplTest {
                 null);
         LocalDateTime start = LocalDateTime.now().plusHours(4).truncatedTo(ChronoUnit.MILLIS);
         LocalDateTime end = LocalDateTime.now().plusHours(7).truncatedTo(ChronoUnit.MILLIS);
-        Booking booking = new Booking(1L, Status.WAITING, item, user, start, end);
         Booking updatedBooking = new Booking(1L, Status.REJECTED, item, user, start, end);
         BookingDto expectedDto = new BookingDto(1L, start, end, Status.REJECTED,
                 new UserDto(userId, "name", "mail@mail.ru"), new ItemDto(1L, "name",
                 "description", true, null));
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(itemStorage.existsByUser_IdAndId(userId, item.getId())).thenReturn(true);
-        when(bookingStorage.save(any(Booking.class))).thenReturn(updatedBooking);
+        when(bookingStorage.updateWaitingStatusByOwner(bookingId, userId, Status.REJECTED)).thenReturn(1);
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.of(updatedBooking));
 
         assertThatCode(() -> {
             BookingDto bookingDto = bookingService.setBookingStatus(userId, bookingId, approved);
@@ -316,32 +350,25 @@ class BookingServiceImplTest {
                     .isEqualTo(expectedDto);
         }).doesNotThrowAnyException();
 
-        verify(bookingStorage, Mockito.times(1)).findById(bookingId);
-        verify(itemStorage, Mockito.times(1)).existsByUser_IdAndId(userId, item.getId());
-        verify(bookingStorage, Mockito.times(1)).save(argumentCaptor.capture());
-        assertThat(argumentCaptor.getValue())
-                .as("Проверка передаваемого аргумента в метод изменения статуса бронирования")
-                .isNotNull()
-                .hasFieldOrPropertyWithValue("id", updatedBooking.getId())
-                .hasFieldOrPropertyWithValue("status", updatedBooking.getStatus())
-                .hasFieldOrPropertyWithValue("item", updatedBooking.getItem())
-                .hasFieldOrPropertyWithValue("booker", updatedBooking.getBooker())
-                .hasFieldOrPropertyWithValue("start", updatedBooking.getStart())
-                .hasFieldOrPropertyWithValue("end", updatedBooking.getEnd());
+        verify(bookingStorage, Mockito.times(1)).updateWaitingStatusByOwner(bookingId, userId, Status.REJECTED);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
+        verifyNoMoreInteractions(bookingStorage);
     }
 
     @Test
     void getBooking_WhenBookingDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
         long bookingId = 1;
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.empty());
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.empty());
+        when(bookingStorage.existsById(bookingId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка получения бронирования по id, которого нет в базе")
                 .isThrownBy(() -> bookingService.getBooking(userId, bookingId))
                 .withMessage(String.format(Constants.BOOKING_NOT_FOUND_MESSAGE, bookingId));
 
-        verify(bookingStorage, Mockito.times(1)).findById(bookingId);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
+        verify(bookingStorage, Mockito.times(1)).existsById(bookingId);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -349,12 +376,8 @@ class BookingServiceImplTest {
     void getBooking_WhenUserDoesNotItemOrBookingOwner_ThenThrowsSecurityException() {
         long userId = 1;
         long bookingId = 1;
-        User user = new User(userId + 1, "name", "mail@mail.ru");
-        Item item = new Item(1L, "name", "description", true, new User(userId + 2),
-                null);
-        Booking booking = new Booking(1L, Status.WAITING, item, user, LocalDateTime.now().plusHours(4),
-                LocalDateTime.now().plusHours(7));
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.empty());
+        when(bookingStorage.existsById(bookingId)).thenReturn(true);
 
         assertThatExceptionOfType(SecurityException.class)
                 .as("Проверка получения бронирования пользователем, который не является владельцем " +
@@ -362,7 +385,8 @@ class BookingServiceImplTest {
                 .isThrownBy(() -> bookingService.getBooking(userId, bookingId))
                 .withMessage(String.format(Constants.NOT_BOOKING_OR_ITEM_OWNER_CANNOT_GET_BOOKING_MESSAGE));
 
-        verify(bookingStorage, Mockito.times(1)).findById(bookingId);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
+        verify(bookingStorage, Mockito.times(1)).existsById(bookingId);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -378,7 +402,7 @@ class BookingServiceImplTest {
         BookingDto expectedDto = new BookingDto(1L, booking.getStart(), booking.getEnd(), Status.WAITING,
                 new UserDto(userId, "name", "mail@mail.ru"), new ItemDto(1L, "name",
                 "description", true, null));
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.of(booking));
 
         assertThatCode(() -> {
             BookingDto bookingDto = bookingService.getBooking(userId, bookingId);
@@ -390,7 +414,7 @@ class BookingServiceImplTest {
                     .isEqualTo(expectedDto);
         }).doesNotThrowAnyException();
 
-        verify(bookingStorage, Mockito.times(1)).findById(bookingId);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -406,7 +430,7 @@ class BookingServiceImplTest {
         BookingDto expectedDto = new BookingDto(1L, booking.getStart(), booking.getEnd(), Status.WAITING,
                 new UserDto(userId + 1, "name", "mail@mail.ru"), new ItemDto(1L, "name",
                 "description", true, null));
-        when(bookingStorage.findById(bookingId)).thenReturn(Optional.of(booking));
+        when(bookingStorage.findVisibleById(bookingId, userId)).thenReturn(Optional.of(booking));
 
         assertThatCode(() -> {
             BookingDto bookingDto = bookingService.getBooking(userId, bookingId);
@@ -418,7 +442,7 @@ class BookingServiceImplTest {
                     .isEqualTo(expectedDto);
         }).doesNotThrowAnyException();
 
-        verify(bookingStorage, Mockito.times(1)).findById(bookingId);
+        verify(bookingStorage, Mockito.times(1)).findVisibleById(bookingId, userId);
         verifyNoMoreInteractions(bookingStorage);
     }
 
@@ -426,7 +450,7 @@ class BookingServiceImplTest {
     void getBookingsByBookerId_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
         SearchingState state = SearchingState.ALL;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка получения бронирований по id владельца бронирования, когда пользователь с таким" +
@@ -439,7 +463,7 @@ class BookingServiceImplTest {
     void getBookingsByOwnerId_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
         SearchingState state = SearchingState.ALL;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка получения бронирований по id владельца бронирования, когда пользователь с таким" +
@@ -5,10 +5,10 @@ import org.assertj.core.data.Index;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.ItemBookingDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.ItemStorage;
@@ -17,6 +17,7 @@ import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -40,8 +41,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByBooker_Id(user1.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_Id(user1.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца")
                     .isNotNull()
                     .asList()
@@ -62,8 +63,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -75,8 +76,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -86,8 +87,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -97,8 +98,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_Id(user2.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -119,8 +120,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "и датой конца бронирования раньше переданной")
                     .isNotNull()
@@ -142,9 +143,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -156,9 +157,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -168,9 +169,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -180,9 +181,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndEndBefore(user2.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -203,9 +204,9 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(),
                     LocalDateTime.now().plusDays(1), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "и датой начала бронирования позже переданной")
                     .isNotNull()
@@ -227,8 +228,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -240,8 +241,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -251,8 +252,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -262,8 +263,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartAfter(user2.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -284,9 +285,9 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
                     LocalDateTime.now(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "и переданной датой между началом и концом бронирования")
                     .isNotNull()
@@ -308,9 +309,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -322,9 +323,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -334,9 +335,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -346,9 +347,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
+            List<Booking> result = bookingStorage.findByBooker_IdAndStartBeforeAndEndAfter(user2.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -369,8 +370,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.APPROVED, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.APPROVED, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "и статусом")
                     .isNotNull()
@@ -392,8 +393,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -405,8 +406,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -416,8 +417,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -427,8 +428,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByBooker_IdAndStatus(user2.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -449,8 +450,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByItem_User_Id(user2.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_Id(user2.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца" +
                             " вещи")
                     .isNotNull()
@@ -472,8 +473,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -485,8 +486,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -496,8 +497,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -507,8 +508,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_Id(user1.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -529,8 +530,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.APPROVED, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.APPROVED, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца" +
                             " вещи и статусом")
                     .isNotNull()
@@ -552,8 +553,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -565,8 +566,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -576,8 +577,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -587,8 +588,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStatus(user1.getId(), Status.WAITING, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -609,9 +610,9 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(),
                     LocalDateTime.now().plusDays(1), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "вещи и датой начала бронирования позже переданной")
                     .isNotNull()
@@ -633,8 +634,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -646,8 +647,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -657,8 +658,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -668,8 +669,8 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartAfter(user1.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -690,8 +691,8 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            List<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(), LocalDateTime.now(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "вещи и датой конца бронирования раньше переданной")
                     .isNotNull()
@@ -713,9 +714,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -727,9 +728,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -739,9 +740,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -751,9 +752,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndEndBefore(user1.getId(),
                     LocalDateTime.now().plusDays(5), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -774,9 +775,9 @@ class BookingStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
                     LocalDateTime.now(), LocalDateTime.now(), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет бронирований с таким id владельца " +
                             "и переданной датой между началом и концом бронирования")
                     .isNotNull()
@@ -798,9 +799,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -812,9 +813,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -824,9 +825,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "start"));
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -836,9 +837,9 @@ class BookingStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
+            List<Booking> result = bookingStorage.findByItem_User_IdAndStartBeforeAndEndAfter(user1.getId(),
                     LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(3), page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -849,45 +850,33 @@ class BookingStorageITest {
     }
 
     @Test
-    void findByItem_IdAndItem_User_Id_WhenNoBookingsFound_ThenReturnEmptyList() {
+    void findLastAndNextBookings_WhenNoApprovedBookingsFound_ThenReturnEmptyList() {
         User user1 = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
         User user2 = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
         Item item1 = itemStorage.save(new Item(0L, "name1", "description1", true, user1,
                 null));
-        Item item2 = itemStorage.save(new Item(0L, "name2", "description2", true, user2,
+        Item item2 = itemStorage.save(new Item(0L, "name2", "description2", true, user1,
                 null));
-        bookingStorage.save(new Booking(Status.WAITING, item1, user2, LocalDateTime.now().plusHours(1),
-                LocalDateTime.now().plusHours(4)));
-        bookingStorage.save(new Booking(Status.APPROVED, item2, user1, LocalDateTime.now().plusDays(1),
+        bookingStorage.save(new Booking(Status.WAITING, item1, user2, LocalDateTime.now().minusDays(2),
+                LocalDateTime.now().minusDays(1)));
+        bookingStorage.save(new Booking(Status.REJECTED, item1, user2, LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(2)));
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(item2.getId(),
-                    user1.getId(), Status.APPROVED);
-            assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме id владельца" +
-                            " вещи")
-                    .isNotNull()
-                    .asList()
-                    .isEmpty();
-        }).doesNotThrowAnyException();
-
-        assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(item2.getId(),
-                    user2.getId(), Status.WAITING);
+            List<ItemBookingDto> result = bookingStorage.findLastBookings(List.of(item1.getId(), item2.getId()),
+                    Status.APPROVED, LocalDateTime.now());
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме статуса " +
-                            "бронирования")
+                    .as("Проверка поиска последних бронирований, когда у вещей нет подтвержденных бронирований")
                     .isNotNull()
                     .asList()
                     .isEmpty();
         }).doesNotThrowAnyException();
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(item2.getId(),
-                    user1.getId(), Status.WAITING);
+            List<ItemBookingDto> result = bookingStorage.findNextBookings(List.of(item1.getId(), item2.getId()),
+                    Status.APPROVED, LocalDateTime.now());
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме id вещи")
+                    .as("Проверка поиска следующих бронирований, когда у вещей нет подтвержденных бронирований")
                     .isNotNull()
                     .asList()
                     .isEmpty();
@@ -895,26 +884,46 @@ class BookingStorageITest {
     }
 
     @Test
-    void findByItem_IdAndItem_User_Id_WhenBookingsFound_ThenReturnNotEmptyList() {
+    void findLastAndNextBookings_WhenApprovedBookingsFound_ThenReturnOneBookingPerItem() {
         User user1 = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
         User user2 = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
-        Item item = itemStorage.save(new Item(0L, "name", "description", true, user1,
+        Item item1 = itemStorage.save(new Item(0L, "name1", "description1", true, user1,
                 null));
-        Booking booking1 = bookingStorage.save(new Booking(Status.APPROVED, item, user2, LocalDateTime.now().plusHours(1),
-                LocalDateTime.now().plusHours(4)));
-        Booking booking2 = bookingStorage.save(new Booking(Status.APPROVED, item, user2, LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(2)));
+        Item item2 = itemStorage.save(new Item(0L, "name2", "description2", true, user1,
+                null));
+        LocalDateTime time = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        bookingStorage.save(new Booking(Status.APPROVED, item1, user2, time.minusDays(5), time.minusDays(4)));
+        Booking lastBooking = bookingStorage.save(new Booking(Status.APPROVED, item1, user2, time.minusDays(2),
+                time.minusDays(1)));
+        Booking nextBooking1 = bookingStorage.save(new Booking(Status.APPROVED, item1, user2, time.plusDays(1),
+                time.plusDays(2)));
+        bookingStorage.save(new Booking(Status.APPROVED, item1, user2, time.plusDays(3), time.plusDays(4)));
+        Booking nextBooking2 = bookingStorage.save(new Booking(Status.APPROVED, item2, user2, time.plusHours(1),
+                time.plusHours(2)));
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(item.getId(),
-                    user1.getId(), Status.APPROVED);
+            List<ItemBookingDto> result = bookingStorage.findLastBookings(List.of(item1.getId(), item2.getId()),
+                    Status.APPROVED, time);
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры поиска")
+                    .as("Проверка поиска последних бронирований вещей")
+                    .isNotNull()
+                    .asList()
+                    .containsExactly(new ItemBookingDto(item1.getId(), lastBooking.getId(), lastBooking.getStart(),
+                            lastBooking.getEnd(), Status.APPROVED, user2.getId()));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<ItemBookingDto> result = bookingStorage.findNextBookings(List.of(item1.getId(), item2.getId()),
+                    Status.APPROVED, time);
+            assertThat(result)
+                    .as("Проверка поиска следующих бронирований вещей")
                     .isNotNull()
                     .asList()
                     .hasSize(2)
-                    .contains(booking1, Index.atIndex(0))
-                    .contains(booking2, Index.atIndex(1));
+                    .contains(new ItemBookingDto(item1.getId(), nextBooking1.getId(), nextBooking1.getStart(),
+                            nextBooking1.getEnd(), Status.APPROVED, user2.getId()))
+                    .contains(new ItemBookingDto(item2.getId(), nextBooking2.getId(), nextBooking2.getStart(),
+                            nextBooking2.getEnd(), Status.APPROVED, user2.getId()));
         }).doesNotThrowAnyException();
     }
 
@@ -988,72 +997,160 @@ class BookingStorageITest {
     }
 
     @Test
-    void findByItem_IdAndEndAfterAndStatus_WhenBookingsNotFound_ThenReturnEmptyList() {
+    void existsByItem_IdAndStatusAndStartBeforeAndEndAfter_WhenNoOverlappingBookings_ThenReturnFalse() {
         User user1 = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
         User user2 = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
         Item item1 = itemStorage.save(new Item(0L, "name1", "description1", true, user1,
                 null));
         Item item2 = itemStorage.save(new Item(0L, "name2", "description2", true, user2,
                 null));
-        bookingStorage.save(new Booking(Status.WAITING, item1, user2, LocalDateTime.now().plusHours(1),
-                LocalDateTime.now().plusHours(4)));
-        bookingStorage.save(new Booking(Status.APPROVED, item2, user1, LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(2)));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(1);
+        bookingStorage.save(new Booking(Status.WAITING, item1, user2, start, end));
+        bookingStorage.save(new Booking(Status.APPROVED, item2, user1, start, end));
+        bookingStorage.save(new Booking(Status.APPROVED, item1, user2, end, end.plusDays(1)));
+        bookingStorage.save(new Booking(Status.APPROVED, item1, user2, start.minusDays(1), start));
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(item1.getId(),
-                    LocalDateTime.now(), Status.APPROVED);
+            boolean result = bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item1.getId(),
+                    Status.APPROVED, end, start);
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме статуса" +
-                            " бронирования")
-                    .isNotNull()
-                    .asList()
-                    .isEmpty();
+                    .as("Проверка возвращаемого значения, когда подтвержденные бронирования вещи только " +
+                            "примыкают к интервалу, а пересекающиеся бронирования не подтверждены или относятся к " +
+                            "другой вещи")
+                    .isFalse();
         }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void existsByItem_IdAndStatusAndStartBeforeAndEndAfter_WhenOverlappingBookingExists_ThenReturnTrue() {
+        User user1 = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
+        User user2 = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
+        Item item = itemStorage.save(new Item(0L, "name", "description", true, user1,
+                null));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(1);
+        bookingStorage.save(new Booking(Status.APPROVED, item, user2, start, end));
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(item2.getId(),
-                    LocalDateTime.now().plusDays(3), Status.APPROVED);
+            boolean result = bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                    Status.APPROVED, end, start);
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме времени конца " +
-                            "бронирования")
-                    .isNotNull()
-                    .asList()
-                    .isEmpty();
+                    .as("Проверка возвращаемого значения, когда интервал совпадает с подтвержденным бронированием")
+                    .isTrue();
         }).doesNotThrowAnyException();
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(item1.getId(),
-                    LocalDateTime.now(), Status.APPROVED);
+            boolean result = bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                    Status.APPROVED, end.plusHours(1), start.minusHours(1));
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры, кроме id вещи")
-                    .isNotNull()
-                    .asList()
-                    .isEmpty();
+                    .as("Проверка возвращаемого значения, когда интервал содержит подтвержденное бронирование")
+                    .isTrue();
         }).doesNotThrowAnyException();
-    }
 
-    @Test
-    void findByItem_IdAndEndAfterAndStatus_WhenBookingsFound_ThenReturnNotEmptyList() {
-        User user1 = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
-        User user2 = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
-        Item item = itemStorage.save(new Item(0L, "name", "description", true, user1,
-                null));
-        Booking booking1 = bookingStorage.save(new Booking(Status.APPROVED, item, user2, LocalDateTime.now().plusHours(1),
-                LocalDateTime.now().plusHours(4)));
-        Booking booking2 = bookingStorage.save(new Booking(Status.APPROVED, item, user2, LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(2)));
+        assertThatCode(() -> {
+            boolean result = bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                    Status.APPROVED, start.plusHours(2), start.plusHours(1));
+            assertThat(result)
+                    .as("Проверка возвращаемого значения, когда интервал лежит внутри подтвержденного бронирования")
+                    .isTrue();
+        }).doesNotThrowAnyException();
 
         assertThatCode(() -> {
-            List<Booking> result = bookingStorage.findByItem_IdAndEndAfterAndStatusOrderByStartAsc(item.getId(),
-                    LocalDateTime.now(), Status.APPROVED);
+            boolean result = bookingStorage.existsByItem_IdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                    Status.APPROVED, end.plusHours(1), end.minusHours(1));
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда совпадают все параметры поиска")
-                    .isNotNull()
-                    .asList()
-                    .hasSize(2)
-                    .contains(booking1, Index.atIndex(0))
-                    .contains(booking2, Index.atIndex(1));
+                    .as("Проверка возвращаемого значения, когда интервал пересекает конец подтвержденного " +
+                            "бронирования")
+                    .isTrue();
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findVisibleById_WhenUserIsNotBookerOrOwner_ThenReturnEmpty() {
+        User owner = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
+        User booker = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
+        User stranger = userStorage.save(new User(0L, "name3", "mail3@mail.ru"));
+        Item item = itemStorage.save(new Item(0L, "name", "description", true, owner, null));
+        Booking booking = bookingStorage.save(new Booking(Status.WAITING, item, booker,
+                LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(3)));
+
+        assertThat(bookingStorage.findVisibleById(booking.getId(), booker.getId()))
+                .as("Проверка получения бронирования его автором")
+                .contains(booking);
+        assertThat(bookingStorage.findVisibleById(booking.getId(), owner.getId()))
+                .as("Проверка получения бронирования владельцем вещи")
+                .contains(booking);
+        assertThat(bookingStorage.findVisibleById(booking.getId(), stranger.getId()))
+                .as("Проверка получения бронирования посторонним пользователем")
+                .isEmpty();
+    }
+
+    @Test
+    void updateWaitingStatusByOwner_WhenUserIsOwnerAndStatusIsWaiting_ThenUpdateOnce() {
+        User owner = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
+        User booker = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
+        Item item = itemStorage.save(new Item(0L, "name", "description", true, owner, null));
+        Booking booking = bookingStorage.save(new Booking(Status.WAITING, item, booker,
+                LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(3)));
+
+        assertThat(bookingStorage.updateWaitingStatusByOwner(booking.getId(), booker.getId(), Status.APPROVED))
+                .as("Проверка изменения статуса бронирования пользователем, который не является владельцем вещи")
+                .isZero();
+        assertThat(bookingStorage.updateWaitingStatusByOwner(booking.getId(), owner.getId(), Status.APPROVED))
+                .as("Проверка изменения статуса бронирования владельцем вещи")
+                .isEqualTo(1);
+        assertThat(bookingStorage.updateWaitingStatusByOwner(booking.getId(), owner.getId(), Status.REJECTED))
+                .as("Проверка повторного изменения статуса бронирования")
+                .isZero();
+        assertThat(bookingStorage.findById(booking.getId()))
+                .as("Проверка статуса бронирования после изменения")
+                .hasValueSatisfying(updated -> assertThat(updated.getStatus()).isEqualTo(Status.APPROVED));
+    }
+
+    @Test
+    void approveWaitingByOwner_WhenUserIsOwnerAndNoApprovedBookingOverlaps_ThenApproveOnce() {
+        User owner = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
+        User booker = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
+        Item item = itemStorage.save(new Item(0L, "name", "description", true, owner, null));
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        bookingStorage.save(new Booking(Status.APPROVED, item, booker, start.minusHours(2), start));
+        Booking booking = bookingStorage.save(new Booking(Status.WAITING, item, booker, start, start.plusHours(2)));
+
+        assertThat(bookingStorage.approveWaitingByOwner(booking.getId(), booker.getId()))
+                .as("Проверка подтверждения бронирования пользователем, который не является владельцем вещи")
+                .isZero();
+        assertThat(bookingStorage.approveWaitingByOwner(booking.getId(), owner.getId()))
+                .as("Проверка подтверждения бронирования владельцем вещи")
+                .isEqualTo(1);
+        assertThat(bookingStorage.approveWaitingByOwner(booking.getId(), owner.getId()))
+                .as("Проверка повторного подтверждения бронирования")
+                .isZero();
+        assertThat(bookingStorage.findById(booking.getId()))
+                .as("Проверка статуса бронирования после подтверждения")
+                .hasValueSatisfying(updated -> assertThat(updated.getStatus()).isEqualTo(Status.APPROVED));
+    }
+
+    @Test
+    void approveWaitingByOwner_WhenApprovedBookingOverlaps_ThenDoNotApprove() {
+        User owner = userStorage.save(new User(0L, "name1", "mail1@mail.ru"));
+        User booker = userStorage.save(new User(0L, "name2", "mail2@mail.ru"));
+        Item item = itemStorage.save(new Item(0L, "name", "description", true, owner, null));
+        Item otherItem = itemStorage.save(new Item(0L, "name", "description", true, owner, null));
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        bookingStorage.save(new Booking(Status.APPROVED, item, booker, start.plusHours(1), start.plusHours(3)));
+        Booking booking = bookingStorage.save(new Booking(Status.WAITING, item, booker, start, start.plusHours(2)));
+        Booking otherBooking = bookingStorage.save(new Booking(Status.WAITING, otherItem, booker, start,
+                start.plusHours(2)));
+
+        assertThat(bookingStorage.approveWaitingByOwner(booking.getId(), owner.getId()))
+                .as("Проверка подтверждения бронирования, пересекающегося с подтвержденным бронированием вещи")
+                .isZero();
+        assertThat(bookingStorage.approveWaitingByOwner(otherBooking.getId(), owner.getId()))
+                .as("Проверка подтверждения бронирования другой вещи на то же время")
+                .isEqualTo(1);
+        assertThat(bookingStorage.findById(booking.getId()))
+                .as("Проверка статуса неподтвержденного бронирования")
+                .hasValueSatisfying(updated -> assertThat(updated.getStatus()).isEqualTo(Status.WAITING));
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.AlreadyExistException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class PostgresBookingApprovalITest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+    private final BookingService bookingService;
+    private final ItemService itemService;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private long ownerId;
+    private long approvedBookingId;
+    private long overlappingBookingId;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userService.createUser(new UserDto(0, "owner", "owner@mail.ru")).getId();
+        long booker1Id = userService.createUser(new UserDto(0, "booker1", "booker1@mail.ru")).getId();
+        long booker2Id = userService.createUser(new UserDto(0, "booker2", "booker2@mail.ru")).getId();
+        long itemId = itemService.createItem(ownerId, new ItemDto(0, "item", "description", true, null)).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS);
+        approvedBookingId = bookingService.createBooking(new BookingCreationDto(itemId, start, start.plusDays(2)),
+                booker1Id).getId();
+        overlappingBookingId = bookingService.createBooking(new BookingCreationDto(itemId, start.plusDays(1),
+                start.plusDays(3)), booker2Id).getId();
+        bookingService.setBookingStatus(ownerId, approvedBookingId, true);
+    }
+
+    @Test
+    void setBookingStatus_WhenOverlappingBookingAlreadyApproved_ThenThrowsAlreadyExistException() {
+        assertThatExceptionOfType(AlreadyExistException.class)
+                .as("Проверка подтверждения бронирования, пересекающегося с уже подтвержденным")
+                .isThrownBy(() -> bookingService.setBookingStatus(ownerId, overlappingBookingId, true));
+        assertThat(bookingService.getBooking(ownerId, overlappingBookingId).getStatus())
+                .as("Проверка статуса бронирования после неудачного подтверждения")
+                .isEqualTo(Status.WAITING);
+    }
+
+    @Test
+    void approve_WhenOverlapCheckIsBypassed_ThenDatabaseRejectsSecondApprovedBooking() {
+        assertThatExceptionOfType(DataIntegrityViolationException.class)
+                .as("Проверка ограничения базы данных на пересекающиеся подтвержденные бронирования")
+                .isThrownBy(() -> jdbcTemplate.update("update bookings set status = 'APPROVED' where id = ?",
+                        overlappingBookingId));
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
 import ru.practicum.shareit.user.UserService;
@@ -19,6 +21,7 @@ import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
@@ -28,6 +31,49 @@ class ItemServiceImplITest {
     private final UserService userService;
     private final BookingService bookingService;
 
+    @Test
+    @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getItems_WhenItemsBelongToDifferentUsers_ThenReturnBookingsOnlyToOwner() {
+        UserDto user1 = userService.createUser(new UserDto(0, "name1", "mail1@mail.ru"));
+        UserDto user2 = userService.createUser(new UserDto(0, "name2", "mail2@mail.ru"));
+        ItemDto item1 = itemService.createItem(user1.getId(), new ItemDto(0, "name1", "description1",
+                true, null));
+        ItemDto item2 = itemService.createItem(user2.getId(), new ItemDto(0, "name2", "description2",
+                true, null));
+        BookingDto booking = bookingService.createBooking(new BookingCreationDto(item1.getId(),
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)), user2.getId());
+        bookingService.setBookingStatus(user1.getId(), booking.getId(), true);
+        List<Long> itemIds = List.of(item2.getId(), item1.getId(), item2.getId() + 1);
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> items = itemService.getItems(itemIds, user1.getId());
+            assertThat(items)
+                    .as("Проверка получения списка вещей владельцем одной из них")
+                    .isNotNull()
+                    .asList()
+                    .hasSize(2)
+                    .contains(itemService.getItem(item1.getId(), user1.getId()), Index.atIndex(0))
+                    .contains(itemService.getItem(item2.getId(), user1.getId()), Index.atIndex(1));
+            assertThat(items.get(0).getNextBooking())
+                    .as("Проверка наличия следующего бронирования у вещи владельца")
+                    .isNotNull();
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> items = itemService.getItems(itemIds, user2.getId());
+            assertThat(items.get(0).getNextBooking())
+                    .as("Проверка отсутствия бронирований у чужой вещи")
+                    .isNull();
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void getItems_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
+        assertThatExceptionOfType(NotFoundException.class)
+                .as("Проверка получения списка вещей несуществующим пользователем")
+                .isThrownBy(() -> itemService.getItems(List.of(1L), Long.MAX_VALUE));
+    }
+
     @Test
     @Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void getUsersItems_WhenDbIsEmpty_ThenReturnEmptyList() {
@@ -4,19 +4,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.BookingStorage;
+import ru.practicum.shareit.booking.dto.ItemBookingDto;
 import ru.practicum.shareit.booking.dto.SimpleBookingDto;
-import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.exception.AlreadyExistException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingDto;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.ItemRequestStorage;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.utils.Constants;
@@ -36,11 +43,17 @@ class ItemServiceImplTest {
     @Mock
     private UserStorage userStorage;
     @Mock
+    private UserDirectory userDirectory;
+    @Mock
     private BookingStorage bookingStorage;
     @Mock
     private CommentStorage commentStorage;
     @Mock
     private ItemRequestStorage itemRequestStorage;
+    @Mock
+    private ItemSearchEngine itemSearchEngine;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ItemServiceImpl itemService;
     @Captor
@@ -52,14 +65,14 @@ class ItemServiceImplTest {
     void createItem_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         ItemDto itemDto = new ItemDto(0, "name", "description", true, null);
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка создания вещи пользователем, id которого нет в базе")
                 .isThrownBy(() -> itemService.createItem(userId, itemDto))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
 
-        verify(userStorage, Mockito.times(1)).existsById(userId);
+        verify(userDirectory, Mockito.times(1)).exists(userId);
         Mockito.verifyNoInteractions(itemStorage);
     }
 
@@ -68,7 +81,7 @@ class ItemServiceImplTest {
         long requestId = 1;
         long userId = 1;
         ItemDto itemDto = new ItemDto(1, "name", "description", true, requestId);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.existsById(requestId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
@@ -87,7 +100,7 @@ class ItemServiceImplTest {
         ItemDto expectedItemDto = new ItemDto(1, "name", "description", true, null);
         Item itemToSave = new Item(0L, "name", "description", true, new User(userId),
                 null);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.save(itemToSave))
                 .thenReturn(new Item(1L, "name", "description", true, new User(1L,
                         "name", "mail@mail.ru"), null));
@@ -112,6 +125,8 @@ class ItemServiceImplTest {
                 .hasFieldOrPropertyWithValue("user", itemToSave.getUser())
                 .hasFieldOrPropertyWithValue("itemRequest", itemToSave.getItemRequest());
         Mockito.verifyNoMoreInteractions(itemStorage);
+        verify(eventPublisher, Mockito.times(1)).publishEvent(new ItemSavedEvent(new SearchableItemDto(1L, "name",
+                "description", null), true));
     }
 
     @Test
@@ -122,7 +137,7 @@ class ItemServiceImplTest {
         ItemDto expectedItemDto = new ItemDto(1, "name", "description", true, requestId);
         Item itemToSave = new Item(0L, "name", "description", true, new User(userId),
                 new ItemRequest(requestId, null, null, null));
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.existsById(requestId)).thenReturn(true);
         when(itemStorage.save(itemToSave))
                 .thenReturn(new Item(1L, "name", "description", true, new User(userId,
@@ -219,6 +234,7 @@ class ItemServiceImplTest {
                 .hasFieldOrPropertyWithValue("available", oldAvailable)
                 .hasFieldOrPropertyWithValue("itemRequest", null);
         verifyNoMoreInteractions(itemStorage);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -251,6 +267,8 @@ class ItemServiceImplTest {
                 .hasFieldOrPropertyWithValue("description", oldDescription)
                 .hasFieldOrPropertyWithValue("available", newAvailable);
         verifyNoMoreInteractions(itemStorage);
+        verify(eventPublisher, Mockito.times(1)).publishEvent(new ItemSavedEvent(
+                new SearchableItemDto(itemId, oldName, oldDescription, null), false));
     }
 
     @Test
@@ -285,19 +303,21 @@ class ItemServiceImplTest {
                 .hasFieldOrPropertyWithValue("itemRequest",
                         new ItemRequest(1L, null, null, null));
         verifyNoMoreInteractions(itemStorage);
+        verify(eventPublisher, Mockito.times(1)).publishEvent(new ItemSavedEvent(
+                new SearchableItemDto(itemId, newName, newDescription, 1L), true));
     }
 
     @Test
     void getItem_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         long itemId = 1;
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка получения вещи, когда id пользователя не найден в базе")
                 .isThrownBy(() -> itemService.getItem(userId, itemId))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
-        verify(userStorage, Mockito.times(1)).existsById(userId);
+        verify(userDirectory, Mockito.times(1)).exists(userId);
         Mockito.verifyNoInteractions(itemStorage);
     }
 
@@ -305,7 +325,7 @@ class ItemServiceImplTest {
     void getItem_WhenItemDoesNotExist_ThenThrowsNotFoundException() {
         long itemId = 1;
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
@@ -328,7 +348,7 @@ class ItemServiceImplTest {
                         new CommentDto(2L, "text2", "name2", time2)));
         Item item = new Item(itemId, "name", "description", true, new User(userId + 1),
                 null);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.of(item));
         when(commentStorage.findByItem_IdOrderByIdAsc(itemId)).thenReturn(List.of(new Comment(1L, "text1", item,
                 new User(userId + 2, "name1", "mail1@mail.ru"), time1), new Comment(2L, "text2",
@@ -343,8 +363,7 @@ class ItemServiceImplTest {
         }).doesNotThrowAnyException();
 
         verify(itemStorage, Mockito.times(1)).findById(itemId);
-        verify(bookingStorage, Mockito.never()).findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(anyLong(),
-                anyLong(), any(Status.class));
+        verifyNoInteractions(bookingStorage);
         verify(commentStorage, Mockito.times(1)).findByItem_IdOrderByIdAsc(itemId);
     }
 
@@ -356,7 +375,7 @@ class ItemServiceImplTest {
                 true, null, null, null, Collections.emptyList());
         Item item = new Item(itemId, "name", "description", true, new User(userId),
                 null);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.of(item));
 
         assertThatCode(() -> {
@@ -368,8 +387,10 @@ class ItemServiceImplTest {
         }).doesNotThrowAnyException();
 
         verify(itemStorage, Mockito.times(1)).findById(itemId);
-        verify(bookingStorage, Mockito.times(1)).findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(userId,
-                itemId, Status.APPROVED);
+        verify(bookingStorage, Mockito.times(1)).findLastBookings(eq(List.of(itemId)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
+        verify(bookingStorage, Mockito.times(1)).findNextBookings(eq(List.of(itemId)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
         verify(commentStorage, Mockito.times(1)).findByItem_IdOrderByIdAsc(itemId);
     }
 
@@ -381,28 +402,25 @@ class ItemServiceImplTest {
                 null);
         LocalDateTime start = LocalDateTime.now().minusDays(3);
         LocalDateTime end = LocalDateTime.now().minusDays(2);
-        Booking booking1 = new Booking(1L, Status.APPROVED, item, new User(userId + 1), LocalDateTime.now().minusDays(5),
-                LocalDateTime.now().minusDays(4));
-        Booking booking2 = new Booking(2L, Status.APPROVED, item, new User(userId + 2), start, end);
         ItemWithBookingDto expectedItemDto = new ItemWithBookingDto(itemId, "name", "description",
                 true, null, new SimpleBookingDto(2L, start, end, Status.APPROVED,
                 userId + 2), null, Collections.emptyList());
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(itemId, userId, Status.APPROVED))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingStorage.findLastBookings(eq(List.of(itemId)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(itemId, 2L, start, end, Status.APPROVED, userId + 2)));
 
         assertThatCode(() -> {
             ItemWithBookingDto actualItemDto = itemService.getItem(itemId, userId);
             assertThat(actualItemDto)
-                    .as("Проверка получения вещи по id ее владельцем, когда нет бронирований вещи")
+                    .as("Проверка получения вещи по id ее владельцем, когда нет следующего бронирования вещи")
                     .isNotNull()
                     .isEqualTo(expectedItemDto);
         }).doesNotThrowAnyException();
 
         verify(itemStorage, Mockito.times(1)).findById(itemId);
-        verify(bookingStorage, Mockito.times(1)).findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(userId,
-                itemId, Status.APPROVED);
+        verify(bookingStorage, Mockito.times(1)).findNextBookings(eq(List.of(itemId)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
         verify(commentStorage, Mockito.times(1)).findByItem_IdOrderByIdAsc(itemId);
     }
 
@@ -414,28 +432,25 @@ class ItemServiceImplTest {
                 null);
         LocalDateTime start = LocalDateTime.now().plusDays(1);
         LocalDateTime end = LocalDateTime.now().plusDays(2);
-        Booking booking1 = new Booking(1L, Status.APPROVED, item, new User(userId + 1), start, end);
-        Booking booking2 = new Booking(2L, Status.APPROVED, item, new User(userId + 2),
-                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4));
         ItemWithBookingDto expectedItemDto = new ItemWithBookingDto(itemId, "name", "description",
                 true, null, null, new SimpleBookingDto(1L, start, end, Status.APPROVED,
                 userId + 1), Collections.emptyList());
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(itemId, userId, Status.APPROVED))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingStorage.findNextBookings(eq(List.of(itemId)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(itemId, 1L, start, end, Status.APPROVED, userId + 1)));
 
         assertThatCode(() -> {
             ItemWithBookingDto actualItemDto = itemService.getItem(itemId, userId);
             assertThat(actualItemDto)
-                    .as("Проверка получения вещи по id ее владельцем, когда нет бронирований вещи")
+                    .as("Проверка получения вещи по id ее владельцем, когда нет последнего бронирования вещи")
                     .isNotNull()
                     .isEqualTo(expectedItemDto);
         }).doesNotThrowAnyException();
 
         verify(itemStorage, Mockito.times(1)).findById(itemId);
-        verify(bookingStorage, Mockito.times(1)).findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(
-                userId, itemId, Status.APPROVED);
+        verify(bookingStorage, Mockito.times(1)).findLastBookings(eq(List.of(itemId)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
         verify(commentStorage, Mockito.times(1)).findByItem_IdOrderByIdAsc(itemId);
     }
 
@@ -449,31 +464,187 @@ class ItemServiceImplTest {
         LocalDateTime end1 = LocalDateTime.now().plusDays(2);
         LocalDateTime start2 = LocalDateTime.now().minusDays(2);
         LocalDateTime end2 = LocalDateTime.now().minusDays(1);
-        Booking booking1 = new Booking(1L, Status.APPROVED, item, new User(userId + 1), start2, end2);
-        Booking booking2 = new Booking(2L, Status.APPROVED, item, new User(userId + 2), start1, end1);
         ItemWithBookingDto expectedItemDto = new ItemWithBookingDto(itemId, "name", "description",
                 true, null, new SimpleBookingDto(1L, start2, end2, Status.APPROVED,
                 userId + 1), new SimpleBookingDto(2L, start1, end1, Status.APPROVED, userId + 2),
                 Collections.emptyList());
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemStorage.findById(itemId)).thenReturn(Optional.of(item));
-        when(bookingStorage.findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(itemId, userId, Status.APPROVED))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingStorage.findLastBookings(eq(List.of(itemId)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(itemId, 1L, start2, end2, Status.APPROVED, userId + 1)));
+        when(bookingStorage.findNextBookings(eq(List.of(itemId)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(itemId, 2L, start1, end1, Status.APPROVED, userId + 2)));
 
         assertThatCode(() -> {
             ItemWithBookingDto actualItemDto = itemService.getItem(itemId, userId);
             assertThat(actualItemDto)
-                    .as("Проверка получения вещи по id ее владельцем, когда нет бронирований вещи")
+                    .as("Проверка получения вещи по id ее владельцем, когда есть последнее и следующее бронирования")
                     .isNotNull()
                     .isEqualTo(expectedItemDto);
         }).doesNotThrowAnyException();
 
         verify(itemStorage, Mockito.times(1)).findById(itemId);
-        verify(bookingStorage, Mockito.times(1)).findByItem_IdAndItem_User_IdAndStatusOrderByStartAsc(
-                userId, itemId, Status.APPROVED);
         verify(commentStorage, Mockito.times(1)).findByItem_IdOrderByIdAsc(itemId);
     }
 
+    @Test
+    void getItems_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
+        long userId = 1;
+        when(userDirectory.exists(userId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .as("Проверка получения списка вещей несуществующим пользователем")
+                .isThrownBy(() -> itemService.getItems(List.of(1L, 2L), userId))
+                .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
+
+        verifyNoInteractions(itemStorage, bookingStorage, commentStorage);
+    }
+
+    @Test
+    void getItems_WhenOnlySomeItemsBelongToUser_ThenReturnBookingsOnlyForOwnedItems() {
+        long userId = 1;
+        LocalDateTime lastStart = LocalDateTime.now().minusDays(2);
+        LocalDateTime lastEnd = LocalDateTime.now().minusDays(1);
+        Item ownedItem = new Item(1L, "name1", "description1", true, new User(userId), null);
+        Item otherItem = new Item(2L, "name2", "description2", true, new User(userId + 1), null);
+        List<ItemWithBookingDto> expectedItems = List.of(
+                new ItemWithBookingDto(1L, "name1", "description1", true, null,
+                        new SimpleBookingDto(1L, lastStart, lastEnd, Status.APPROVED, userId + 2), null,
+                        Collections.emptyList()),
+                new ItemWithBookingDto(2L, "name2", "description2", true, null, null, null,
+                        Collections.emptyList()));
+        when(userDirectory.exists(userId)).thenReturn(true);
+        when(itemStorage.findByIdInOrderByIdAsc(List.of(2L, 1L, 3L))).thenReturn(List.of(ownedItem, otherItem));
+        when(bookingStorage.findLastBookings(eq(List.of(1L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(1L, 1L, lastStart, lastEnd, Status.APPROVED, userId + 2)));
+        when(bookingStorage.findNextBookings(eq(List.of(1L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        when(commentStorage.findByItem_IdInOrderByIdAsc(List.of(1L, 2L))).thenReturn(Collections.emptyList());
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> actualItems = itemService.getItems(List.of(2L, 1L, 3L), userId);
+            assertThat(actualItems)
+                    .as("Проверка получения бронирований только для вещей пользователя")
+                    .isNotNull()
+                    .isEqualTo(expectedItems);
+        }).doesNotThrowAnyException();
+
+        verify(bookingStorage, Mockito.times(1)).findLastBookings(eq(List.of(1L)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
+        verify(bookingStorage, Mockito.times(1)).findNextBookings(eq(List.of(1L)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
+        verifyNoMoreInteractions(bookingStorage);
+    }
+
+    @Test
+    void getItems_WhenNoItemBelongsToUser_ThenDoNotLoadBookings() {
+        long userId = 1;
+        Item otherItem = new Item(2L, "name2", "description2", true, new User(userId + 1), null);
+        when(userDirectory.exists(userId)).thenReturn(true);
+        when(itemStorage.findByIdInOrderByIdAsc(List.of(2L))).thenReturn(List.of(otherItem));
+        when(commentStorage.findByItem_IdInOrderByIdAsc(List.of(2L))).thenReturn(Collections.emptyList());
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> actualItems = itemService.getItems(List.of(2L), userId);
+            assertThat(actualItems)
+                    .as("Проверка получения чужих вещей без бронирований")
+                    .isNotNull()
+                    .isEqualTo(List.of(new ItemWithBookingDto(2L, "name2", "description2", true, null, null,
+                            null, Collections.emptyList())));
+        }).doesNotThrowAnyException();
+
+        verifyNoInteractions(bookingStorage);
+    }
+
+    @Test
+    void getUsersItems_WhenUserHasNoItems_ThenReturnEmptyListWithoutLoadingBookings() {
+        long userId = 1;
+        when(itemStorage.findByUser_Id(anyLong(), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> actualItems = itemService.getUsersItems(userId, 0, 20);
+            assertThat(actualItems)
+                    .as("Проверка получения вещей пользователя, у которого нет вещей")
+                    .isNotNull()
+                    .asList()
+                    .isEmpty();
+        }).doesNotThrowAnyException();
+
+        verifyNoInteractions(bookingStorage, commentStorage);
+    }
+
+    @Test
+    void getUsersItems_WhenItemsHaveBookingsAndComments_ThenLoadThemWithOneQueryPerStorage() {
+        long userId = 1;
+        LocalDateTime time = LocalDateTime.now().minusDays(1);
+        LocalDateTime lastStart = LocalDateTime.now().minusDays(2);
+        LocalDateTime lastEnd = LocalDateTime.now().minusDays(1);
+        LocalDateTime nextStart = LocalDateTime.now().plusDays(1);
+        LocalDateTime nextEnd = LocalDateTime.now().plusDays(2);
+        Item item1 = new Item(1L, "name1", "description1", true, new User(userId), null);
+        Item item2 = new Item(2L, "name2", "description2", true, new User(userId), null);
+        Comment comment = new Comment(1L, "text", item2, new User(userId + 1, "name", "mail@mail.ru"), time);
+        List<ItemWithBookingDto> expectedItems = List.of(
+                new ItemWithBookingDto(1L, "name1", "description1", true, null,
+                        new SimpleBookingDto(1L, lastStart, lastEnd, Status.APPROVED, userId + 1),
+                        new SimpleBookingDto(2L, nextStart, nextEnd, Status.APPROVED, userId + 2),
+                        Collections.emptyList()),
+                new ItemWithBookingDto(2L, "name2", "description2", true, null, null, null,
+                        List.of(new CommentDto(1L, "text", "name", time))));
+        when(itemStorage.findByUser_Id(anyLong(), any(Pageable.class))).thenReturn(List.of(item1, item2));
+        when(bookingStorage.findLastBookings(eq(List.of(1L, 2L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(1L, 1L, lastStart, lastEnd, Status.APPROVED, userId + 1)));
+        when(bookingStorage.findNextBookings(eq(List.of(1L, 2L)), eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDto(1L, 2L, nextStart, nextEnd, Status.APPROVED, userId + 2)));
+        when(commentStorage.findByItem_IdInOrderByIdAsc(List.of(1L, 2L))).thenReturn(List.of(comment));
+
+        assertThatCode(() -> {
+            List<ItemWithBookingDto> actualItems = itemService.getUsersItems(userId, 0, 20);
+            assertThat(actualItems)
+                    .as("Проверка получения вещей пользователя с бронированиями и отзывами")
+                    .isNotNull()
+                    .isEqualTo(expectedItems);
+        }).doesNotThrowAnyException();
+
+        verify(bookingStorage, Mockito.times(1)).findLastBookings(eq(List.of(1L, 2L)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
+        verify(bookingStorage, Mockito.times(1)).findNextBookings(eq(List.of(1L, 2L)), eq(Status.APPROVED),
+                any(LocalDateTime.class));
+        verify(commentStorage, Mockito.times(1)).findByItem_IdInOrderByIdAsc(List.of(1L, 2L));
+        verifyNoMoreInteractions(bookingStorage, commentStorage);
+    }
+
+    @Test
+    void searchItems_WhenTextIsBlank_ThenReturnEmptyListWithoutSearching() {
+        assertThatCode(() -> {
+            List<ItemDto> actualItems = itemService.searchItems(" ", 0, 20);
+            assertThat(actualItems)
+                    .as("Проверка поиска вещей по пустой поисковой строке")
+                    .isNotNull()
+                    .asList()
+                    .isEmpty();
+        }).doesNotThrowAnyException();
+
+        verifyNoInteractions(itemSearchEngine, itemStorage);
+    }
+
+    @Test
+    void searchItems_WhenTextIsNotBlank_ThenReturnItemsFoundBySearchEngine() {
+        Item item = new Item(1L, "name", "description", true, new User(1L), null);
+        when(itemSearchEngine.search("name", PageRequest.of(1, 5))).thenReturn(List.of(item));
+
+        assertThatCode(() -> {
+            List<ItemDto> actualItems = itemService.searchItems("name", 5, 5);
+            assertThat(actualItems)
+                    .as("Проверка поиска вещей по поисковой строке")
+                    .isNotNull()
+                    .isEqualTo(List.of(new ItemDto(1L, "name", "description", true, null)));
+        }).doesNotThrowAnyException();
+
+        verify(itemSearchEngine, Mockito.times(1)).search("name", PageRequest.of(1, 5));
+        verifyNoInteractions(itemStorage);
+    }
+
     @Test
     void createComment_WhenUserHaveNoFinishedBookingsOfThisItem_ThenThrowsIllegalArgumentException() {
         CommentDto commentDto = new CommentDto(null, "text", null, null);
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -46,8 +45,8 @@ class ItemStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Item> result = itemStorage.findByUser_Id(user.getId() + 1, page);
-            assertThat(result.getContent())
+            List<Item> result = itemStorage.findByUser_Id(user.getId() + 1, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет вещей с таким id владельца")
                     .isNotNull()
                     .asList()
@@ -66,8 +65,8 @@ class ItemStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
 
-            Page<Item> result = itemStorage.findByUser_Id(user.getId(), page);
-            assertThat(result.getContent())
+            List<Item> result = itemStorage.findByUser_Id(user.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения,когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -80,8 +79,8 @@ class ItemStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "id"));
 
-            Page<Item> result = itemStorage.findByUser_Id(user.getId(), page);
-            assertThat(result.getContent())
+            List<Item> result = itemStorage.findByUser_Id(user.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -92,8 +91,8 @@ class ItemStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "id"));
 
-            Page<Item> result = itemStorage.findByUser_Id(user.getId(), page);
-            assertThat(result.getContent())
+            List<Item> result = itemStorage.findByUser_Id(user.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -104,8 +103,8 @@ class ItemStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
 
-            Page<Item> result = itemStorage.findByUser_Id(user.getId(), page);
-            assertThat(result.getContent())
+            List<Item> result = itemStorage.findByUser_Id(user.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -127,9 +126,9 @@ class ItemStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+            List<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
                     "3", "3", page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет доступных вещей, содержащих " +
                             "искомую строку в описании или названии")
                     .isNotNull()
@@ -150,9 +149,9 @@ class ItemStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
-            Page<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+            List<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
                     "descr", "descr", page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда есть сортировка и все записи вмещаются на " +
                             "одну страницу")
                     .isNotNull()
@@ -164,9 +163,9 @@ class ItemStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "id"));
-            Page<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+            List<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
                     "descr", "descr", page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -176,9 +175,9 @@ class ItemStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "id"));
-            Page<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+            List<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
                     "descr", "descr", page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .isNotNull()
                     .asList()
@@ -188,9 +187,9 @@ class ItemStorageITest {
 
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
-            Page<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
+            List<Item> result = itemStorage.findByDescriptionContainingAndAvailableTrueOrNameContainingAndAvailableTrueAllIgnoreCase(
                     "name", "name", page);
-            assertThat(result.getContent())
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .isNotNull()
                     .asList()
@@ -249,7 +248,7 @@ class ItemStorageITest {
     }
 
     @Test
-    void findByItemRequest_Id_WhenItemsWithRequestsNotExist_ThenReturnEmptyList() {
+    void findByItemRequest_IdIn_WhenItemsWithRequestsNotExist_ThenReturnEmptyList() {
         User user = userStorage.save(new User(0L, "name", "mail@mail.ru"));
         itemStorage.save(new Item(0L, "name1", "description1", true, user,
                 null));
@@ -257,7 +256,7 @@ class ItemStorageITest {
                 null));
 
         assertThatCode(() -> {
-            List<Item> result = itemStorage.findByItemRequest_Id(1L);
+            List<Item> result = itemStorage.findByItemRequest_IdIn(List.of(1L, 2L));
             assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет вещей, созданных по запросам")
                     .isNotNull()
@@ -267,24 +266,34 @@ class ItemStorageITest {
     }
 
     @Test
-    void findByItemRequest_Id_WhenItemsWithRequestIdExist_ThenReturnNotEmptyList() {
+    void findByItemRequest_IdIn_WhenItemsWithRequestIdsExist_ThenReturnItemsOfAllRequests() {
         User user = userStorage.save(new User(0L, "name", "mail@mail.ru"));
-        ItemRequest itemRequest = itemRequestStorage.save(new ItemRequest("description", user,
+        ItemRequest itemRequest1 = itemRequestStorage.save(new ItemRequest("description1", user,
                 LocalDateTime.now().minusHours(1)));
+        ItemRequest itemRequest2 = itemRequestStorage.save(new ItemRequest("description2", user,
+                LocalDateTime.now().minusHours(2)));
+        ItemRequest itemRequest3 = itemRequestStorage.save(new ItemRequest("description3", user,
+                LocalDateTime.now().minusHours(3)));
         Item item1 = itemStorage.save(new Item(0L, "name1", "description1", true, user,
-                itemRequest));
+                itemRequest1));
         Item item2 = itemStorage.save(new Item(0L, "name2", "description2", true, user,
-                itemRequest));
+                itemRequest1));
+        Item item3 = itemStorage.save(new Item(0L, "name3", "description3", true, user,
+                itemRequest2));
+        itemStorage.save(new Item(0L, "name4", "description4", true, user,
+                itemRequest3));
 
         assertThatCode(() -> {
-            List<Item> result = itemStorage.findByItemRequest_Id(itemRequest.getId());
+            List<Item> result = itemStorage.findByItemRequest_IdIn(List.of(itemRequest1.getId(),
+                    itemRequest2.getId()));
             assertThat(result)
-                    .as("Проверка возвращаемого значения, когда в базе есть вещи по запросу с таким id")
+                    .as("Проверка возвращаемого значения, когда в базе есть вещи по запросам с такими id")
                     .isNotNull()
                     .asList()
-                    .hasSize(2)
+                    .hasSize(3)
                     .contains(item1)
-                    .contains(item2);
+                    .contains(item2)
+                    .contains(item3);
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.ItemStorage;
+import ru.practicum.shareit.item.dto.SearchableItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemSearchEngineTest {
+    private final SearchableItemDto drill = new SearchableItemDto(1L, "Дрель", "Простая дрель", null);
+    private final SearchableItemDto screwdriver = new SearchableItemDto(2L, "Отвертка", "Аккумуляторная отвертка",
+            1L);
+    private final SearchableItemDto hammer = new SearchableItemDto(3L, "Молоток", "Для дрели не подходит", null);
+    @Mock
+    private ItemStorage itemStorage;
+    @InjectMocks
+    private InMemoryItemSearchEngine searchEngine;
+
+    @Test
+    void search_WhenIndexBuilt_ThenReturnAvailableItemsContainingText() {
+        when(itemStorage.findAvailableForSearch(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(drill, screwdriver, hammer));
+        searchEngine.rebuild();
+
+        assertThatCode(() -> {
+            List<Item> result = searchEngine.search("ДРЕЛ", PageRequest.of(0, 20));
+            assertThat(result)
+                    .as("Проверка поиска без учета регистра по названию и описанию")
+                    .asList()
+                    .hasSize(2)
+                    .containsExactly(new Item(1L), new Item(3L));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<Item> result = searchEngine.search("дрел", PageRequest.of(1, 1));
+            assertThat(result)
+                    .as("Проверка поиска с учетом страницы")
+                    .asList()
+                    .containsExactly(new Item(3L));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<Item> result = searchEngine.search("о", PageRequest.of(0, 20));
+            assertThat(result)
+                    .as("Проверка поиска по строке короче триграммы")
+                    .asList()
+                    .containsExactly(new Item(1L), new Item(2L), new Item(3L));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<Item> result = searchEngine.search("отвертка", PageRequest.of(0, 20));
+            assertThat(result.get(0))
+                    .as("Проверка полей найденной вещи")
+                    .hasFieldOrPropertyWithValue("id", 2L)
+                    .hasFieldOrPropertyWithValue("name", "Отвертка")
+                    .hasFieldOrPropertyWithValue("description", "Аккумуляторная отвертка")
+                    .hasFieldOrPropertyWithValue("available", true)
+                    .hasFieldOrPropertyWithValue("itemRequest.id", 1L);
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<Item> result = searchEngine.search("пила", PageRequest.of(0, 20));
+            assertThat(result)
+                    .as("Проверка поиска, когда нет совпадений")
+                    .asList()
+                    .isEmpty();
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void onItemSaved_WhenItemChanged_ThenIndexUpdated() {
+        when(itemStorage.findAvailableForSearch(anyLong(), any(Pageable.class))).thenReturn(List.of(drill, hammer));
+        searchEngine.rebuild();
+
+        searchEngine.onItemSaved(new ItemSavedEvent(new SearchableItemDto(1L, "Перфоратор", "Мощный", null), true));
+        searchEngine.onItemSaved(new ItemSavedEvent(hammer, false));
+        searchEngine.onItemSaved(new ItemSavedEvent(screwdriver, true));
+
+        assertThatCode(() -> {
+            assertThat(searchEngine.search("дрел", PageRequest.of(0, 20)))
+                    .as("Проверка поиска по старому названию и вещи, ставшей недоступной")
+                    .asList()
+                    .isEmpty();
+            assertThat(searchEngine.search("перфоратор", PageRequest.of(0, 20)))
+                    .as("Проверка поиска по новому названию")
+                    .asList()
+                    .containsExactly(new Item(1L));
+            assertThat(searchEngine.search("отвертка", PageRequest.of(0, 20)))
+                    .as("Проверка поиска новой вещи")
+                    .asList()
+                    .containsExactly(new Item(2L));
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkConsistency_WhenIndexDiffersFromTable_ThenRebuildIndex() {
+        when(itemStorage.findAvailableForSearch(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(drill))
+                .thenReturn(List.of(drill, screwdriver))
+                .thenReturn(List.of(drill, screwdriver));
+        searchEngine.rebuild();
+
+        searchEngine.checkConsistency();
+
+        verify(itemStorage, Mockito.times(3)).findAvailableForSearch(anyLong(), any(Pageable.class));
+        assertThat(searchEngine.search("отвертка", PageRequest.of(0, 20)))
+                .as("Проверка поиска вещи, добавленной при перестроении индекса")
+                .asList()
+                .containsExactly(new Item(2L));
+    }
+
+    @Test
+    void checkConsistency_WhenIndexMatchesTable_ThenDoNotRebuildIndex() {
+        when(itemStorage.findAvailableForSearch(anyLong(), any(Pageable.class))).thenReturn(List.of(drill, hammer));
+        searchEngine.rebuild();
+
+        searchEngine.checkConsistency();
+
+        verify(itemStorage, Mockito.times(2)).findAvailableForSearch(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void rebuild_WhenItemsSavedDuringRebuild_ThenKeepTheirChanges() {
+        when(itemStorage.findAvailableForSearch(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    searchEngine.onItemSaved(new ItemSavedEvent(screwdriver, true));
+                    searchEngine.onItemSaved(new ItemSavedEvent(hammer, false));
+                    return List.of(drill, hammer);
+                });
+        searchEngine.rebuild();
+
+        assertThatCode(() -> {
+            assertThat(searchEngine.search("отвертка", PageRequest.of(0, 20)))
+                    .as("Проверка поиска вещи, добавленной во время построения индекса")
+                    .asList()
+                    .containsExactly(new Item(2L));
+            assertThat(searchEngine.search("дрел", PageRequest.of(0, 20)))
+                    .as("Проверка поиска после изменений, сделанных во время построения индекса")
+                    .asList()
+                    .containsExactly(new Item(1L));
+        }).doesNotThrowAnyException();
+    }
+}
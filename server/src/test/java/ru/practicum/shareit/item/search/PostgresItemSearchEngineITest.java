@@ -0,0 +1,89 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(scripts = "classpath:db/clearDb.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class PostgresItemSearchEngineITest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+    private final ItemSearchEngine itemSearchEngine;
+    private final ItemService itemService;
+    private final UserService userService;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        long userId = userService.createUser(new UserDto(0, "name", "mail@mail.ru")).getId();
+        itemService.createItem(userId, new ItemDto(0, "Дрель", "Ударная дрель на 100% мощности", true, null));
+        itemService.createItem(userId, new ItemDto(0, "Отвертка", "Аккумуляторная отвертка", true, null));
+        itemService.createItem(userId, new ItemDto(0, "Дрель", "Сломанная дрель", false, null));
+        itemService.createItem(userId, new ItemDto(0, "Пила", "Циркулярная пила на 1000 Вт", true, null));
+    }
+
+    @Test
+    void search_WhenEngineIsPostgres_ThenUsePostgresEngine() {
+        assertThat(itemSearchEngine)
+                .as("Проверка выбора поискового движка для профиля dev")
+                .isInstanceOf(PostgresItemSearchEngine.class);
+    }
+
+    @Test
+    void searchItems_WhenTextMatchesWholeWord_ThenReturnOnlyAvailableItems() {
+        assertThat(searchDescriptions("дрель"))
+                .as("Проверка поиска доступных вещей по слову")
+                .containsExactly("Ударная дрель на 100% мощности");
+    }
+
+    @Test
+    void searchItems_WhenTextMatchesPartOfWord_ThenReturnItems() {
+        assertThat(searchDescriptions("кумулятор"))
+                .as("Проверка поиска вещей по части слова")
+                .containsExactly("Аккумуляторная отвертка");
+    }
+
+    @Test
+    void searchItems_WhenTextContainsLikeWildcards_ThenMatchThemLiterally() {
+        assertThat(searchDescriptions("100%"))
+                .as("Проверка поиска вещей по строке со знаком процента")
+                .containsExactly("Ударная дрель на 100% мощности");
+        assertThat(searchDescriptions("_"))
+                .as("Проверка поиска вещей по строке со знаком подчеркивания")
+                .isEmpty();
+    }
+
+    private List<String> searchDescriptions(String text) {
+        return itemService.searchItems(text, 0, 20).stream()
+                .map(ItemDto::getDescription)
+                .collect(Collectors.toList());
+    }
+}
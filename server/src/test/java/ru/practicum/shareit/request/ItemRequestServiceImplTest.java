@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.ItemStorage;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -13,6 +14,7 @@ import ru.practicum.shareit.request.dto.CreateItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserDirectory;
 import ru.practicum.shareit.user.UserStorage;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.utils.Constants;
@@ -32,6 +34,8 @@ class ItemRequestServiceImplTest {
     @Mock
     private UserStorage userStorage;
     @Mock
+    private UserDirectory userDirectory;
+    @Mock
     private ItemStorage itemStorage;
     @InjectMocks
     private ItemRequestServiceImpl requestService;
@@ -42,14 +46,14 @@ class ItemRequestServiceImplTest {
     void createItemRequest_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         CreateItemRequestDto requestDto = new CreateItemRequestDto("description");
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка создания запроса на вещь пользователем, id которого нет в базе")
                 .isThrownBy(() -> requestService.createItemRequest(userId, requestDto))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
 
-        verify(userStorage, Mockito.times(1)).existsById(userId);
+        verify(userDirectory, Mockito.times(1)).exists(userId);
         verifyNoInteractions(itemRequestStorage);
     }
 
@@ -59,7 +63,7 @@ class ItemRequestServiceImplTest {
         long userId = 1;
         LocalDateTime time = LocalDateTime.now();
         ItemRequestDto expectedDto = new ItemRequestDto(1L, "description", time);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(userStorage.getReferenceById(userId)).thenReturn(new User(userId));
         when(itemRequestStorage.save(any(ItemRequest.class))).thenReturn(new ItemRequest(1L,
                 "description", new User(userId), time));
@@ -88,21 +92,21 @@ class ItemRequestServiceImplTest {
     @Test
     void getUsersRequests_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка создания запроса на вещь пользователем, id которого нет в базе")
                 .isThrownBy(() -> requestService.getUserRequests(userId))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
 
-        verify(userStorage, Mockito.times(1)).existsById(userId);
+        verify(userDirectory, Mockito.times(1)).exists(userId);
         verifyNoInteractions(itemRequestStorage);
     }
 
     @Test
     void getUsersRequests_WhenUserDoesNotHaveRequests_ThenReturnEmptyList() {
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.findByRequestor_IdOrderByCreatedDesc(userId)).thenReturn(Collections.emptyList());
 
         assertThatCode(() -> {
@@ -121,7 +125,7 @@ class ItemRequestServiceImplTest {
     @Test
     void getUsersRequests_WhenUserHasRequests_ThenReturnNotEmptyList() {
         long userId = 1;
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         LocalDateTime created1 = LocalDateTime.now().minusDays(1);
         LocalDateTime created2 = LocalDateTime.now().minusDays(2);
         ItemRequest itemRequest1 = new ItemRequest(1L, "description1", new User(userId), created1);
@@ -132,7 +136,8 @@ class ItemRequestServiceImplTest {
                 itemRequest1);
         Item item2 = new Item(2L, "name2", "description2", true, new User(userId + 2),
                 itemRequest1);
-        when(itemStorage.findByItemRequest_Id(itemRequest1.getId())).thenReturn(List.of(item1, item2));
+        when(itemStorage.findByItemRequest_IdIn(List.of(itemRequest1.getId(), itemRequest2.getId())))
+                .thenReturn(List.of(item1, item2));
         ItemRequestWithAnswersDto expectedRequestDto1 = new ItemRequestWithAnswersDto(1L, "description1",
                 created1, List.of(new ItemDto(1, "name1", "description1", true, 1L),
                 new ItemDto(2, "name2", "description2", true, 1L)));
@@ -152,8 +157,8 @@ class ItemRequestServiceImplTest {
         }).doesNotThrowAnyException();
 
         verify(itemRequestStorage, Mockito.times(1)).findByRequestor_IdOrderByCreatedDesc(userId);
-        verify(itemStorage, Mockito.times(1)).findByItemRequest_Id(itemRequest1.getId());
-        verify(itemStorage, Mockito.times(1)).findByItemRequest_Id(itemRequest2.getId());
+        verify(itemStorage, Mockito.times(1)).findByItemRequest_IdIn(List.of(itemRequest1.getId(),
+                itemRequest2.getId()));
         verifyNoMoreInteractions(itemRequestStorage);
         verifyNoMoreInteractions(itemStorage);
     }
@@ -162,14 +167,14 @@ class ItemRequestServiceImplTest {
     void getRequestById_WhenUserDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
         long requestId = 1;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка создания запроса на вещь пользователем, id которого нет в базе")
                 .isThrownBy(() -> requestService.getRequestById(userId, requestId))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
 
-        verify(userStorage, Mockito.times(1)).existsById(userId);
+        verify(userDirectory, Mockito.times(1)).exists(userId);
         verifyNoInteractions(itemRequestStorage);
     }
 
@@ -177,7 +182,7 @@ class ItemRequestServiceImplTest {
     void getRequestById_WhenRequestDoesNotExist_ThenThrowsNotFoundException() {
         long userId = 1;
         long requestId = 1;
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.findById(requestId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
@@ -195,9 +200,9 @@ class ItemRequestServiceImplTest {
         long requestId = 1;
         LocalDateTime created = LocalDateTime.now().minusDays(1);
         ItemRequest itemRequest = new ItemRequest(1L, "description", new User(userId), created);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.findById(userId)).thenReturn(Optional.of(itemRequest));
-        when(itemStorage.findByItemRequest_Id(itemRequest.getId())).thenReturn(Collections.emptyList());
+        when(itemStorage.findByItemRequest_IdIn(List.of(itemRequest.getId()))).thenReturn(Collections.emptyList());
         ItemRequestWithAnswersDto expectedRequestDto = new ItemRequestWithAnswersDto(1L, "description",
                 created, Collections.emptyList());
 
@@ -210,7 +215,7 @@ class ItemRequestServiceImplTest {
         }).doesNotThrowAnyException();
 
         verify(itemRequestStorage, Mockito.times(1)).findById(requestId);
-        verify(itemStorage, Mockito.times(1)).findByItemRequest_Id(requestId);
+        verify(itemStorage, Mockito.times(1)).findByItemRequest_IdIn(List.of(requestId));
         verifyNoMoreInteractions(itemRequestStorage);
         verifyNoMoreInteractions(itemStorage);
     }
@@ -225,9 +230,9 @@ class ItemRequestServiceImplTest {
                 itemRequest);
         Item item2 = new Item(2L, "name2", "description2", true, new User(userId + 2),
                 itemRequest);
-        when(userStorage.existsById(userId)).thenReturn(true);
+        when(userDirectory.exists(userId)).thenReturn(true);
         when(itemRequestStorage.findById(userId)).thenReturn(Optional.of(itemRequest));
-        when(itemStorage.findByItemRequest_Id(itemRequest.getId())).thenReturn(List.of(item1, item2));
+        when(itemStorage.findByItemRequest_IdIn(List.of(itemRequest.getId()))).thenReturn(List.of(item1, item2));
         ItemRequestWithAnswersDto expectedRequestDto = new ItemRequestWithAnswersDto(1L, "description",
                 created, List.of(new ItemDto(1, "name1", "description1", true, 1L),
                 new ItemDto(2, "name2", "description2", true, 1L)));
@@ -241,7 +246,7 @@ class ItemRequestServiceImplTest {
         }).doesNotThrowAnyException();
 
         verify(itemRequestStorage, Mockito.times(1)).findById(requestId);
-        verify(itemStorage, Mockito.times(1)).findByItemRequest_Id(requestId);
+        verify(itemStorage, Mockito.times(1)).findByItemRequest_IdIn(List.of(requestId));
         verifyNoMoreInteractions(itemRequestStorage);
         verifyNoMoreInteractions(itemStorage);
     }
@@ -251,11 +256,46 @@ class ItemRequestServiceImplTest {
         long userId = 1;
         int from = 0;
         int size = 5;
-        when(userStorage.existsById(userId)).thenReturn(false);
+        when(userDirectory.exists(userId)).thenReturn(false);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .as("Проверка получения запросов пользователем, id которого нет в базе")
                 .isThrownBy(() -> requestService.getRequests(userId, from, size))
                 .withMessage(String.format(Constants.USER_NOT_FOUND_MESSAGE, userId));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getRequests_WhenRequestsHaveAnswers_ThenLoadAnswersWithOneQuery() {
+        long userId = 1;
+        int from = 0;
+        int size = 5;
+        LocalDateTime created1 = LocalDateTime.now().minusDays(1);
+        LocalDateTime created2 = LocalDateTime.now().minusDays(2);
+        ItemRequest itemRequest1 = new ItemRequest(1L, "description1", new User(userId + 1), created1);
+        ItemRequest itemRequest2 = new ItemRequest(2L, "description2", new User(userId + 2), created2);
+        Item item1 = new Item(1L, "name1", "description1", true, new User(userId),
+                itemRequest2);
+        Item item2 = new Item(2L, "name2", "description2", true, new User(userId + 1),
+                itemRequest1);
+        when(userDirectory.exists(userId)).thenReturn(true);
+        when(itemRequestStorage.findByRequestor_IdNot(eq(userId), any(Pageable.class)))
+                .thenReturn(List.of(itemRequest1, itemRequest2));
+        when(itemStorage.findByItemRequest_IdIn(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
+        List<ItemRequestWithAnswersDto> expectedRequests = List.of(
+                new ItemRequestWithAnswersDto(1L, "description1", created1,
+                        List.of(new ItemDto(2, "name2", "description2", true, 1L))),
+                new ItemRequestWithAnswersDto(2L, "description2", created2,
+                        List.of(new ItemDto(1, "name1", "description1", true, 2L))));
+
+        assertThatCode(() -> {
+            List<ItemRequestWithAnswersDto> actualRequests = requestService.getRequests(userId, from, size);
+            assertThat(actualRequests)
+                    .as("Проверка получения запросов других пользователей с ответами")
+                    .isNotNull()
+                    .isEqualTo(expectedRequests);
+        }).doesNotThrowAnyException();
+
+        verify(itemStorage, Mockito.times(1)).findByItemRequest_IdIn(List.of(1L, 2L));
+        verifyNoMoreInteractions(itemStorage);
+    }
+}
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -79,8 +78,8 @@ class ItemRequestStorageITest {
         Pageable page = PageRequest.of(0, 20);
 
         assertThatCode(() -> {
-            Page<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId(), page);
-            assertThat(result.getContent())
+            List<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId(), page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда в базе нет запросов с другим id пользователя")
                     .isNotNull()
                     .asList()
@@ -99,8 +98,8 @@ class ItemRequestStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "created"));
 
-            Page<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
-            assertThat(result.getContent())
+            List<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда есть сортировка и все записи вмещаются на одну" +
                             " страницу")
                     .asList()
@@ -112,8 +111,8 @@ class ItemRequestStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "created"));
 
-            Page<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
-            assertThat(result.getContent())
+            List<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .asList()
                     .hasSize(1)
@@ -123,8 +122,8 @@ class ItemRequestStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "created"));
 
-            Page<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
-            assertThat(result.getContent())
+            List<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда записи не помещаются на одну страницу")
                     .asList()
                     .hasSize(1)
@@ -134,8 +133,8 @@ class ItemRequestStorageITest {
         assertThatCode(() -> {
             Pageable page = PageRequest.of(0, 20);
 
-            Page<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
-            assertThat(result.getContent())
+            List<ItemRequest> result = itemRequestStorage.findByRequestor_IdNot(requestor.getId() + 1, page);
+            assertThat(result)
                     .as("Проверка возвращаемого значения, когда нет сортировки")
                     .asList()
                     .hasSize(2)
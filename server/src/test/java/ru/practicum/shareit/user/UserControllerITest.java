@@ -10,15 +10,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -57,9 +62,11 @@ class UserControllerITest {
     @Test
     void getAll_WhenUsersDoNotExist_ThenReturnOk() {
         ArrayList<UserDto> emptyList = new ArrayList<>();
-        when(userService.getAll()).thenReturn(emptyList);
 
-        String output = mockMvc.perform(get("/users"))
+        MvcResult result = mockMvc.perform(get("/users"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String output = mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -69,7 +76,7 @@ class UserControllerITest {
                 .as("Проверка вывода пустого списка при отсутствии пользователей")
                 .isNotNull()
                 .isEqualTo(objectMapper.writeValueAsString(emptyList));
-        verify(userService, Mockito.times(1)).getAll();
+        verify(userService, Mockito.times(1)).getAll(any());
         Mockito.verifyNoMoreInteractions(userService);
     }
 
@@ -78,9 +85,16 @@ class UserControllerITest {
     void getAll_WhenUsersExist_ThenReturnOk() {
         List<UserDto> users = List.of(new UserDto(1, "name1", "mail1@mail.ru"),
                 new UserDto(2, "name2", "mail2@mail.ru"));
-        when(userService.getAll()).thenReturn(users);
-
-        String output = mockMvc.perform(get("/users"))
+        doAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(0);
+            users.forEach(consumer);
+            return null;
+        }).when(userService).getAll(any());
+
+        MvcResult result = mockMvc.perform(get("/users"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String output = mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -90,7 +104,7 @@ class UserControllerITest {
                 .as("Проверка вывода непустого списка")
                 .isNotNull()
                 .isEqualTo(objectMapper.writeValueAsString(users));
-        verify(userService, Mockito.times(1)).getAll();
+        verify(userService, Mockito.times(1)).getAll(any());
         Mockito.verifyNoMoreInteractions(userService);
     }
 
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+    @Mock
+    private UserStorage userStorage;
+    @InjectMocks
+    private UserDirectory userDirectory;
+
+    @Test
+    void exists_WhenUserWasLoaded_ThenDoNotQueryStorage() {
+        when(userStorage.findIdsAfter(0L, PageRequest.of(0, 1000))).thenReturn(List.of(1L, 3L));
+        userDirectory.load();
+
+        assertThat(userDirectory.exists(3))
+                .as("Проверка наличия загруженного пользователя в справочнике")
+                .isTrue();
+        verify(userStorage, Mockito.times(1)).findIdsAfter(0L, PageRequest.of(0, 1000));
+        Mockito.verifyNoMoreInteractions(userStorage);
+    }
+
+    @Test
+    void exists_WhenUserIsMissing_ThenConfirmInStorage() {
+        when(userStorage.existsById(2L)).thenReturn(true);
+
+        assertThat(userDirectory.exists(2))
+                .as("Проверка наличия пользователя, найденного в базе")
+                .isTrue();
+        assertThat(userDirectory.exists(2))
+                .as("Проверка наличия пользователя, добавленного в справочник после проверки в базе")
+                .isTrue();
+        verify(userStorage, Mockito.times(1)).existsById(2L);
+        Mockito.verifyNoMoreInteractions(userStorage);
+    }
+
+    @Test
+    void exists_WhenUserWasDeleted_ThenConfirmInStorage() {
+        userDirectory.onUserExistenceChanged(new UserExistenceEvent(1, true));
+        userDirectory.onUserExistenceChanged(new UserExistenceEvent(1, false));
+        when(userStorage.existsById(1L)).thenReturn(false);
+
+        assertThat(userDirectory.exists(1))
+                .as("Проверка отсутствия удаленного пользователя")
+                .isFalse();
+        verify(userStorage, Mockito.times(1)).existsById(1L);
+        Mockito.verifyNoMoreInteractions(userStorage);
+    }
+
+    @Test
+    void exists_WhenUserDeletedDuringStorageCheck_ThenDoNotAddItToDirectory() {
+        when(userStorage.existsById(2L)).thenAnswer(invocation -> {
+            userDirectory.onUserExistenceChanged(new UserExistenceEvent(2, false));
+            return true;
+        }).thenReturn(false);
+
+        assertThat(userDirectory.exists(2))
+                .as("Проверка наличия пользователя на момент проверки в базе")
+                .isTrue();
+        assertThat(userDirectory.exists(2))
+                .as("Проверка отсутствия пользователя, удаленного во время проверки в базе")
+                .isFalse();
+        verify(userStorage, Mockito.times(2)).existsById(2L);
+        Mockito.verifyNoMoreInteractions(userStorage);
+    }
+
+    @Test
+    void load_WhenUserDeletedDuringLoad_ThenDoNotRestoreIt() {
+        when(userStorage.findIdsAfter(0L, PageRequest.of(0, 1000))).thenAnswer(invocation -> {
+            userDirectory.onUserExistenceChanged(new UserExistenceEvent(3, false));
+            userDirectory.onUserExistenceChanged(new UserExistenceEvent(4, true));
+            return List.of(1L, 3L);
+        });
+        userDirectory.load();
+        when(userStorage.existsById(3L)).thenReturn(false);
+
+        assertThat(userDirectory.exists(3))
+                .as("Проверка отсутствия пользователя, удаленного во время загрузки справочника")
+                .isFalse();
+        assertThat(userDirectory.exists(4))
+                .as("Проверка наличия пользователя, созданного во время загрузки справочника")
+                .isTrue();
+        verify(userStorage, Mockito.times(1)).existsById(3L);
+        verify(userStorage, Mockito.never()).existsById(4L);
+    }
+}
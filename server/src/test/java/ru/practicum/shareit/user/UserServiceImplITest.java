@@ -8,6 +8,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -22,7 +23,8 @@ class UserServiceImplITest {
     @Test
     void getAll_WhenDbIsEmpty_ThenReturnEmptyList() {
         assertThatCode(() -> {
-            List<UserDto> users = userService.getAll();
+            List<UserDto> users = new ArrayList<>();
+            userService.getAll(users::add);
             assertThat(users)
                     .as("Проверка получения пустого списка пользователей при пустой бд")
                     .isNotNull()
@@ -38,7 +40,8 @@ class UserServiceImplITest {
         UserDto user2 = userService.createUser(new UserDto(0, "name2", "mail2@mail.ru"));
 
         assertThatCode(() -> {
-            List<UserDto> users = userService.getAll();
+            List<UserDto> users = new ArrayList<>();
+            userService.getAll(users::add);
 
             assertThat(users)
                     .as("Проверка получения непустого списка пользователей при непустой бд")
@@ -4,14 +4,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.exception.AlreadyExistException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,11 +30,37 @@ import static ru.practicum.shareit.utils.Constants.USER_NOT_FOUND_MESSAGE;
 class UserServiceImplTest {
     @Mock
     private UserStorage userStorage;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private UserServiceImpl userService;
     @Captor
     private ArgumentCaptor<User> requestCaptor;
 
+    @Test
+    void getAll_WhenUsersTakeSeveralPages_ThenPassAllUsersToConsumerPageByPage() {
+        List<User> firstPage = LongStream.rangeClosed(1, UserServiceImpl.PAGE_SIZE)
+                .mapToObj(id -> new User(id, "name" + id, "mail" + id + "@mail.ru"))
+                .collect(Collectors.toList());
+        List<User> secondPage = List.of(new User(21L, "name21", "mail21@mail.ru"));
+        PageRequest page = PageRequest.of(UserServiceImpl.START_PAGE, UserServiceImpl.PAGE_SIZE);
+        when(userStorage.findByIdGreaterThanOrderByIdAsc(0L, page)).thenReturn(firstPage);
+        when(userStorage.findByIdGreaterThanOrderByIdAsc(20L, page)).thenReturn(secondPage);
+        List<UserDto> users = new ArrayList<>();
+
+        assertThatCode(() -> userService.getAll(users::add)).doesNotThrowAnyException();
+
+        assertThat(users)
+                .as("Проверка получения всех пользователей постранично")
+                .asList()
+                .hasSize(21)
+                .contains(new UserDto(1, "name1", "mail1@mail.ru"))
+                .contains(new UserDto(21, "name21", "mail21@mail.ru"));
+        verify(userStorage, Mockito.times(1)).findByIdGreaterThanOrderByIdAsc(0L, page);
+        verify(userStorage, Mockito.times(1)).findByIdGreaterThanOrderByIdAsc(20L, page);
+        verifyNoMoreInteractions(userStorage);
+    }
+
     @Test
     void createUser_WhenUserDtoIsCorrect_ThenUserCreated() {
         User userToSave = new User(0L, "name", "email@mail.ru");
@@ -52,6 +84,7 @@ class UserServiceImplTest {
                 .hasFieldOrPropertyWithValue("id", userToSave.getId())
                 .hasFieldOrPropertyWithValue("name", userToSave.getName())
                 .hasFieldOrPropertyWithValue("email", userToSave.getEmail());
+        verify(eventPublisher, Mockito.times(1)).publishEvent(new UserExistenceEvent(1, true));
         Mockito.verifyNoMoreInteractions(userStorage);
     }
 
@@ -110,6 +143,7 @@ class UserServiceImplTest {
                 .doesNotThrowAnyException();
 
         verify(userStorage, Mockito.times(1)).deleteById(anyLong());
+        verify(eventPublisher, Mockito.times(1)).publishEvent(any(UserExistenceEvent.class));
         Mockito.verifyNoMoreInteractions(userStorage);
     }
 
@@ -5,8 +5,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.List;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 
@@ -51,4 +54,25 @@ class UserStorageITest {
                     .isFalse();
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIdGreaterThanOrderByIdAsc_WhenUsersExist_ThenReturnNextUsersById() {
+        User user1 = userStorage.save(new User(0L, "name1", "email1@mail.ru"));
+        User user2 = userStorage.save(new User(0L, "name2", "email2@mail.ru"));
+        User user3 = userStorage.save(new User(0L, "name3", "email3@mail.ru"));
+
+        assertThatCode(() -> {
+            List<User> result = userStorage.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 2));
+            assertThat(result)
+                    .as("Проверка возвращаемого значения для первой страницы")
+                    .isEqualTo(List.of(user1, user2));
+        }).doesNotThrowAnyException();
+
+        assertThatCode(() -> {
+            List<User> result = userStorage.findByIdGreaterThanOrderByIdAsc(user2.getId(), PageRequest.of(0, 2));
+            assertThat(result)
+                    .as("Проверка возвращаемого значения для страницы после последнего полученного id")
+                    .isEqualTo(List.of(user3));
+        }).doesNotThrowAnyException();
+    }
+}
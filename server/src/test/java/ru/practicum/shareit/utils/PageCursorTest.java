@@ -0,0 +1,58 @@
+package ru.practicum.shareit.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static ru.practicum.shareit.utils.Constants.HEADER_WITH_NEXT_PAGE_CURSOR_NAME;
+
+class PageCursorTest {
+    @Test
+    void decode_WhenTokenWasEncoded_ThenReturnSameCursor() {
+        PageCursor cursorWithTime = new PageCursor(LocalDateTime.of(2023, 4, 1, 12, 30, 15), 42);
+        PageCursor cursorWithoutTime = new PageCursor(7);
+
+        assertThat(PageCursor.decode(cursorWithTime.encode()))
+                .as("Проверка декодирования курсора со временем")
+                .isEqualTo(cursorWithTime);
+        assertThat(PageCursor.decode(cursorWithoutTime.encode()))
+                .as("Проверка декодирования курсора без времени")
+                .isEqualTo(cursorWithoutTime);
+    }
+
+    @Test
+    void decode_WhenTokenIsInvalid_ThenThrowsIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .as("Проверка декодирования строки, не являющейся base64")
+                .isThrownBy(() -> PageCursor.decode("!!!"))
+                .withMessage(String.format(Constants.INVALID_PAGE_CURSOR_MESSAGE, "!!!"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .as("Проверка декодирования курсора без разделителя")
+                .isThrownBy(() -> PageCursor.decode("MTIz"))
+                .withMessage(String.format(Constants.INVALID_PAGE_CURSOR_MESSAGE, "MTIz"));
+    }
+
+    @Test
+    void getRequiredTime_WhenCursorHasNoTime_ThenThrowsIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .as("Проверка получения времени из курсора без времени")
+                .isThrownBy(() -> new PageCursor(7).getRequiredTime());
+    }
+
+    @Test
+    void toResponse_WhenPageIsFull_ThenSetNextCursorHeader() {
+        ResponseEntity<List<Long>> fullPage = PageCursor.toResponse(List.of(1L, 2L), 2, PageCursor::new);
+        ResponseEntity<List<Long>> lastPage = PageCursor.toResponse(List.of(3L), 2, PageCursor::new);
+
+        assertThat(fullPage.getHeaders().getFirst(HEADER_WITH_NEXT_PAGE_CURSOR_NAME))
+                .as("Проверка курсора следующей страницы для полной страницы")
+                .isEqualTo(new PageCursor(2).encode());
+        assertThat(lastPage.getHeaders().containsKey(HEADER_WITH_NEXT_PAGE_CURSOR_NAME))
+                .as("Проверка отсутствия курсора следующей страницы для последней страницы")
+                .isFalse();
+    }
+}